@@ -0,0 +1,407 @@
+package Benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import Dados.MatchStore;
+import Ordenacao.Chave;
+import Ordenacao.RegistroOrdenacao;
+import Ordenacao.Sorter;
+
+/**
+ * Benchmark dos algoritmos de ordenação, no estilo do JMH: para cada
+ * combinação de algoritmo ({@link RegistroOrdenacao}), chave ({@link Chave}),
+ * formato de entrada ({@link FormatoEntrada}) e tamanho, executa iterações de
+ * aquecimento e de medição em JVMs separadas (forks) e imprime o tempo médio
+ * por ordenação, o desvio padrão, o intervalo de confiança de 99,9% e a vazão.
+ * <p>
+ * Uso (a partir da raiz do projeto, depois de executar o {@code Main} ao menos
+ * uma vez para gerar o {@code matches_T2.csv}):
+ * <pre>
+ * java -cp bin Benchmark.BenchmarkOrdenacao [--algoritmos QuickSort,MergeSort]
+ *     [--chaves attendance,venue] [--formatos ORDENADO,ALEATORIO]
+ *     [--tamanhos 1000,100000] [--warmup 3] [--iteracoes 5] [--tempo-ms 500]
+ *     [--forks 2] [--limite-quadratico 100000] [--limite-repetidas 10000]
+ *     [--timeout-fork-s 600] [--csv resultados.csv]
+ *     [--entrada src/TransformaçõesResultados/matches_T2.csv]
+ * </pre>
+ * As chaves de cada entrada vêm do arquivo T2, repetidas até o tamanho pedido;
+ * se o arquivo não existir, são sorteadas em faixas parecidas com as reais.
+ * <p>
+ * Um fork que falha (por exemplo, com {@code StackOverflowError}) ou que passa
+ * de {@code --timeout-fork-s} segundos é encerrado e vira uma linha do
+ * resultado com a situação, e o benchmark continua com a próxima combinação.
+ */
+public class BenchmarkOrdenacao {
+
+    private static final String ENTRADA_PADRAO = "src/TransformaçõesResultados/matches_T2.csv";
+    private static final long SEMENTE = 42L;
+    private static final String PREFIXO_AMOSTRA = "# amostra ";
+
+    /** Algoritmos O(n²), que só são medidos até {@code --limite-quadratico}. */
+    private static final Set<String> QUADRATICOS = new HashSet<>(Arrays.asList("InsertionSort", "SelectionSort"));
+
+    /**
+     * Quick Sorts com partição de Lomuto, que ficam O(n²) (e o
+     * {@code QuickSortMediana3} estoura a pilha) com muitas chaves iguais: com
+     * {@link FormatoEntrada#MUITOS_DUPLICADOS} ou com venue, só são medidos até
+     * {@code --limite-repetidas}.
+     */
+    private static final Set<String> QUADRATICOS_COM_REPETIDAS = new HashSet<>(
+            Arrays.asList("QuickSort", "QuickSortMediana3"));
+
+    private List<Sorter> algoritmos = RegistroOrdenacao.algoritmos();
+    private List<Chave> chaves = Arrays.asList(Chave.values());
+    private List<FormatoEntrada> formatos = Arrays.asList(FormatoEntrada.values());
+    private int[] tamanhos = {1_000, 10_000, 100_000, 1_000_000, 10_000_000};
+    private int warmup = 3;
+    private int iteracoes = 5;
+    private long tempoIteracaoMs = 500;
+    private int forks = 2;
+    private int limiteQuadratico = 100_000;
+    private int limiteRepetidas = 10_000;
+    private long timeoutForkS = 600;
+    private String arquivoCsv;
+    private String entrada = ENTRADA_PADRAO;
+
+    /** Soma das chaves ordenadas, para que o JIT não descarte as ordenações. */
+    private static volatile long sumidouro;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        BenchmarkOrdenacao benchmark = new BenchmarkOrdenacao();
+        if (args.length > 0 && args[0].equals("--fork")) {
+            benchmark.executarFork(args);
+        } else {
+            benchmark.lerOpcoes(args);
+            benchmark.executar();
+        }
+    }
+
+    private void lerOpcoes(String[] args) {
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Valor ausente para " + args[i]);
+            }
+            String valor = args[i + 1];
+            switch (args[i]) {
+                case "--algoritmos":
+                    algoritmos = new ArrayList<>();
+                    for (String nome : valor.split(",")) {
+                        Sorter sorter = RegistroOrdenacao.buscar(nome.trim());
+                        if (sorter == null) {
+                            throw new IllegalArgumentException("Algoritmo desconhecido: " + nome);
+                        }
+                        algoritmos.add(sorter);
+                    }
+                    break;
+                case "--chaves":
+                    chaves = new ArrayList<>();
+                    for (String nome : valor.split(",")) {
+                        chaves.add(buscarChave(nome.trim()));
+                    }
+                    break;
+                case "--formatos":
+                    formatos = new ArrayList<>();
+                    for (String nome : valor.split(",")) {
+                        formatos.add(FormatoEntrada.valueOf(nome.trim().toUpperCase(Locale.ROOT)));
+                    }
+                    break;
+                case "--tamanhos":
+                    String[] partes = valor.split(",");
+                    tamanhos = new int[partes.length];
+                    for (int t = 0; t < partes.length; t++) {
+                        tamanhos[t] = Integer.parseInt(partes[t].trim().replace("_", ""));
+                    }
+                    break;
+                case "--warmup":
+                    warmup = Integer.parseInt(valor);
+                    break;
+                case "--iteracoes":
+                    iteracoes = Integer.parseInt(valor);
+                    break;
+                case "--tempo-ms":
+                    tempoIteracaoMs = Long.parseLong(valor);
+                    break;
+                case "--forks":
+                    forks = Integer.parseInt(valor);
+                    break;
+                case "--limite-quadratico":
+                    limiteQuadratico = Integer.parseInt(valor);
+                    break;
+                case "--limite-repetidas":
+                    limiteRepetidas = Integer.parseInt(valor);
+                    break;
+                case "--timeout-fork-s":
+                    timeoutForkS = Long.parseLong(valor);
+                    break;
+                case "--csv":
+                    arquivoCsv = valor;
+                    break;
+                case "--entrada":
+                    entrada = valor;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+            }
+        }
+    }
+
+    private static Chave buscarChave(String nome) {
+        for (Chave chave : Chave.values()) {
+            if (chave.coluna().equalsIgnoreCase(nome) || chave.name().equalsIgnoreCase(nome)) {
+                return chave;
+            }
+        }
+        throw new IllegalArgumentException("Chave desconhecida: " + nome);
+    }
+
+    /**
+     * Executa todas as combinações e imprime (e opcionalmente grava em CSV) o
+     * resultado de cada uma.
+     */
+    private void executar() throws IOException, InterruptedException {
+        PrintWriter csv = null;
+        if (arquivoCsv != null) {
+            csv = new PrintWriter(new FileWriter(arquivoCsv));
+            csv.println("algoritmo,chave,formato,tamanho,amostras,media_ms,desvio_ms,erro_ms,vazao_ops_s,situacao");
+        }
+        System.out.printf(Locale.ROOT, "%-18s %-11s %-17s %10s %4s %14s %12s %14s %14s  %s%n",
+                "Algoritmo", "Chave", "Formato", "Tamanho", "Amos", "Média (ms/op)", "Desvio", "Erro (99,9%)",
+                "Vazão (ops/s)", "Situação");
+        try {
+            for (Sorter sorter : algoritmos) {
+                for (Chave chave : chaves) {
+                    for (FormatoEntrada formato : formatos) {
+                        for (int tamanho : tamanhos) {
+                            if (acimaDoLimite(sorter, chave, formato, tamanho)) {
+                                continue;
+                            }
+                            List<Double> amostras = new ArrayList<>();
+                            String situacao = forks > 0
+                                    ? medirEmForks(sorter, chave, formato, tamanho, amostras)
+                                    : medirNoProcesso(sorter, chave, formato, tamanho, amostras);
+                            imprimir(csv, sorter, chave, formato, tamanho, new Estatisticas(amostras), situacao);
+                        }
+                    }
+                }
+            }
+        } finally {
+            if (csv != null) {
+                csv.close();
+            }
+        }
+    }
+
+    /**
+     * @return Verdadeiro se a combinação não deve ser medida, por ser O(n²)
+     *         nesse tamanho.
+     */
+    private boolean acimaDoLimite(Sorter sorter, Chave chave, FormatoEntrada formato, int tamanho) {
+        if (QUADRATICOS.contains(sorter.nome())) {
+            return tamanho > limiteQuadratico;
+        }
+        if (QUADRATICOS_COM_REPETIDAS.contains(sorter.nome())
+                && (formato == FormatoEntrada.MUITOS_DUPLICADOS || chave == Chave.VENUE)) {
+            return tamanho > limiteRepetidas;
+        }
+        return false;
+    }
+
+    private void imprimir(PrintWriter csv, Sorter sorter, Chave chave, FormatoEntrada formato, int tamanho,
+            Estatisticas estatisticas, String situacao) {
+        double mediaMs = estatisticas.media() / 1e6;
+        double desvioMs = estatisticas.desvioPadrao() / 1e6;
+        double erroMs = estatisticas.erro() / 1e6;
+        double vazao = 1e3 / mediaMs;
+        System.out.printf(Locale.ROOT, "%-18s %-11s %-17s %10d %4d %14.4f %12.4f %14.4f %14.2f  %s%n",
+                sorter.nome(), chave.coluna(), formato, tamanho, estatisticas.amostras(), mediaMs, desvioMs, erroMs,
+                vazao, situacao);
+        if (csv != null) {
+            csv.printf(Locale.ROOT, "%s,%s,%s,%d,%d,%.6f,%.6f,%.6f,%.4f,%s%n", sorter.nome(), chave.coluna(),
+                    formato, tamanho, estatisticas.amostras(), mediaMs, desvioMs, erroMs, vazao, situacao);
+            csv.flush();
+        }
+    }
+
+    /**
+     * Mede uma combinação em {@code forks} JVMs novas, para que o perfil do JIT
+     * de uma combinação não influencie a seguinte, e junta as amostras de todas.
+     * Um fork que termina com erro ou passa de {@code timeoutForkS} segundos
+     * (e é encerrado) interrompe a combinação; as amostras anteriores são
+     * mantidas.
+     *
+     * @param amostras Recebe as amostras dos forks.
+     * @return A situação da medição: {@code ok}, ou o motivo da falha.
+     */
+    private String medirEmForks(Sorter sorter, Chave chave, FormatoEntrada formato, int tamanho,
+            List<Double> amostras) throws IOException, InterruptedException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        for (int f = 0; f < forks; f++) {
+            List<String> comando = new ArrayList<>(Arrays.asList(java, "-cp", System.getProperty("java.class.path"),
+                    BenchmarkOrdenacao.class.getName(), "--fork", sorter.nome(), chave.name(), formato.name(),
+                    String.valueOf(tamanho), String.valueOf(warmup), String.valueOf(iteracoes),
+                    String.valueOf(tempoIteracaoMs), entrada));
+            Process processo = new ProcessBuilder(comando).redirectErrorStream(true).start();
+            List<Double> doFork = new ArrayList<>();
+            Thread leitor = new Thread(() -> lerSaidaDoFork(processo, doFork), "leitor-fork");
+            leitor.start();
+
+            boolean terminou = processo.waitFor(timeoutForkS, TimeUnit.SECONDS);
+            if (!terminou) {
+                processo.destroyForcibly();
+                processo.waitFor();
+            }
+            leitor.join();
+            amostras.addAll(doFork);
+
+            if (!terminou) {
+                return "tempo esgotado (" + timeoutForkS + " s)";
+            }
+            if (processo.exitValue() != 0) {
+                return "falhou (código " + processo.exitValue() + ")";
+            }
+        }
+        return "ok";
+    }
+
+    /**
+     * Lê a saída de um fork até ele terminar: as amostras vão para
+     * {@code amostras} e as demais linhas (como a pilha de um erro) para a
+     * saída de erro.
+     */
+    private static void lerSaidaDoFork(Process processo, List<Double> amostras) {
+        try (BufferedReader saida = new BufferedReader(new InputStreamReader(processo.getInputStream()))) {
+            String line;
+            while ((line = saida.readLine()) != null) {
+                if (line.startsWith(PREFIXO_AMOSTRA)) {
+                    amostras.add(Double.parseDouble(line.substring(PREFIXO_AMOSTRA.length())));
+                } else {
+                    System.err.println(line);
+                }
+            }
+        } catch (IOException e) {
+            // O fork foi encerrado por tempo esgotado e a saída foi fechada
+        }
+    }
+
+    /**
+     * Mede uma combinação no próprio processo (com {@code --forks 0}). Um
+     * {@code StackOverflowError} da ordenação é registrado como falha, como
+     * faria um fork.
+     *
+     * @param amostras Recebe as amostras medidas.
+     * @return A situação da medição: {@code ok}, ou o motivo da falha.
+     */
+    private String medirNoProcesso(Sorter sorter, Chave chave, FormatoEntrada formato, int tamanho,
+            List<Double> amostras) {
+        try {
+            amostras.addAll(medir(sorter, chave, formato, tamanho, false));
+            return "ok";
+        } catch (StackOverflowError e) {
+            return "falhou (StackOverflowError)";
+        }
+    }
+
+    /**
+     * Ponto de entrada de um fork: mede uma única combinação e escreve as
+     * amostras na saída padrão para o processo pai.
+     */
+    private void executarFork(String[] args) {
+        Sorter sorter = RegistroOrdenacao.buscar(args[1]);
+        Chave chave = Chave.valueOf(args[2]);
+        FormatoEntrada formato = FormatoEntrada.valueOf(args[3]);
+        int tamanho = Integer.parseInt(args[4]);
+        warmup = Integer.parseInt(args[5]);
+        iteracoes = Integer.parseInt(args[6]);
+        tempoIteracaoMs = Long.parseLong(args[7]);
+        entrada = args[8];
+        medir(sorter, chave, formato, tamanho, true);
+    }
+
+    /**
+     * Executa as iterações de aquecimento e de medição de uma combinação.
+     * Cada iteração repete a ordenação até completar {@code tempoIteracaoMs}
+     * (ao menos uma vez) e gera uma amostra com o tempo médio por ordenação, em
+     * nanossegundos. Só a chamada a {@link Sorter#ordenar} é cronometrada: a
+     * cópia da entrada para os arrays de trabalho fica fora da medição.
+     *
+     * @param emitir Se verdadeiro, escreve cada amostra na saída padrão.
+     * @return As amostras das iterações de medição.
+     */
+    private List<Double> medir(Sorter sorter, Chave chave, FormatoEntrada formato, int tamanho, boolean emitir) {
+        int[] chavesEntrada = formato.gerar(chavesBase(chave), tamanho, SEMENTE);
+        int[] chavesTrabalho = new int[tamanho];
+        int[] linhasTrabalho = new int[tamanho];
+
+        List<Double> amostras = new ArrayList<>();
+        for (int iteracao = 0; iteracao < warmup + iteracoes; iteracao++) {
+            long limite = System.nanoTime() + tempoIteracaoMs * 1_000_000L;
+            long medido = 0;
+            long operacoes = 0;
+            long soma = 0;
+            do {
+                System.arraycopy(chavesEntrada, 0, chavesTrabalho, 0, tamanho);
+                for (int i = 0; i < tamanho; i++) {
+                    linhasTrabalho[i] = i;
+                }
+                long inicio = System.nanoTime();
+                sorter.ordenar(chavesTrabalho, linhasTrabalho);
+                medido += System.nanoTime() - inicio;
+                operacoes++;
+                soma += chavesTrabalho[0] + linhasTrabalho[tamanho - 1];
+            } while (System.nanoTime() < limite);
+            sumidouro += soma;
+
+            if (iteracao >= warmup) {
+                double amostra = (double) medido / operacoes;
+                amostras.add(amostra);
+                if (emitir) {
+                    System.out.println(PREFIXO_AMOSTRA + amostra);
+                }
+            }
+        }
+        return amostras;
+    }
+
+    /**
+     * @return As chaves do arquivo de entrada na ordem original, ou chaves
+     *         sorteadas em faixas parecidas com as reais se o arquivo não
+     *         existir.
+     */
+    private int[] chavesBase(Chave chave) {
+        if (new File(entrada).isFile()) {
+            MatchStore store = MatchStore.carregar(entrada);
+            if (store.tamanho() > 0) {
+                return chave.extrair(store, store.visaoOriginal());
+            }
+        }
+        Random random = new Random(SEMENTE);
+        int[] base = new int[10_000];
+        for (int i = 0; i < base.length; i++) {
+            switch (chave) {
+                case VENUE:
+                    base[i] = random.nextInt(400);
+                    break;
+                case ATTENDANCE:
+                    base[i] = random.nextInt(100_000);
+                    break;
+                default:
+                    base[i] = 10_957 + random.nextInt(11_000);
+                    break;
+            }
+        }
+        return base;
+    }
+}
@@ -0,0 +1,80 @@
+package Benchmark;
+
+import java.util.List;
+
+/**
+ * Média, desvio padrão e intervalo de confiança de 99,9% (distribuição t de
+ * Student) de um conjunto de amostras, no mesmo formato usado pelo JMH.
+ */
+public class Estatisticas {
+
+    private static final double Z_999 = 3.2905267314919255;
+
+    /** Quantis 0,9995 exatos da distribuição t para 1 a 10 graus de liberdade. */
+    private static final double[] T_999 = {
+            636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781, 4.587};
+
+    private final int n;
+    private final double media;
+    private final double desvioPadrao;
+    private final double erro;
+
+    /**
+     * @param amostras As amostras medidas.
+     */
+    public Estatisticas(List<Double> amostras) {
+        n = amostras.size();
+        double soma = 0;
+        for (double amostra : amostras) {
+            soma += amostra;
+        }
+        media = n == 0 ? Double.NaN : soma / n;
+
+        double quadrados = 0;
+        for (double amostra : amostras) {
+            quadrados += (amostra - media) * (amostra - media);
+        }
+        desvioPadrao = n > 1 ? Math.sqrt(quadrados / (n - 1)) : Double.NaN;
+        erro = n > 1 ? quantilT(n - 1) * desvioPadrao / Math.sqrt(n) : Double.NaN;
+    }
+
+    public int amostras() {
+        return n;
+    }
+
+    public double media() {
+        return media;
+    }
+
+    public double desvioPadrao() {
+        return desvioPadrao;
+    }
+
+    /**
+     * @return A metade da largura do intervalo de confiança de 99,9%.
+     */
+    public double erro() {
+        return erro;
+    }
+
+    /**
+     * Quantil 0,9995 da distribuição t. Acima de 10 graus de liberdade usa a
+     * expansão de Cornish-Fisher a partir do quantil da normal.
+     */
+    private static double quantilT(int grausLiberdade) {
+        if (grausLiberdade <= T_999.length) {
+            return T_999[grausLiberdade - 1];
+        }
+        double z = Z_999;
+        double v = grausLiberdade;
+        double z3 = z * z * z;
+        double z5 = z3 * z * z;
+        double z7 = z5 * z * z;
+        double z9 = z7 * z * z;
+        return z
+                + (z3 + z) / (4 * v)
+                + (5 * z5 + 16 * z3 + 3 * z) / (96 * v * v)
+                + (3 * z7 + 19 * z5 + 17 * z3 - 15 * z) / (384 * v * v * v)
+                + (79 * z9 + 776 * z7 + 1482 * z5 - 1920 * z3 - 945 * z) / (92160 * v * v * v * v);
+    }
+}
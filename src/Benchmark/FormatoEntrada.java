@@ -0,0 +1,108 @@
+package Benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Os formatos de entrada usados nos benchmarks. Todos partem das chaves na
+ * ordem original do arquivo, repetidas até o tamanho pedido, para que a
+ * distribuição dos valores seja a dos dados reais.
+ */
+public enum FormatoEntrada {
+
+    /** Chaves em ordem crescente (o melhorCaso do {@code Main}). */
+    ORDENADO {
+        @Override
+        int[] gerar(int[] original, Random random) {
+            int[] chaves = original.clone();
+            Arrays.sort(chaves);
+            return chaves;
+        }
+    },
+    /** Chaves em ordem decrescente (o piorCaso do {@code Main}). */
+    INVERTIDO {
+        @Override
+        int[] gerar(int[] original, Random random) {
+            int[] chaves = ORDENADO.gerar(original, random);
+            for (int i = 0, j = chaves.length - 1; i < j; i++, j--) {
+                int temp = chaves[i];
+                chaves[i] = chaves[j];
+                chaves[j] = temp;
+            }
+            return chaves;
+        }
+    },
+    /** Chaves na ordem do arquivo (o medioCaso do {@code Main}). */
+    ORIGINAL {
+        @Override
+        int[] gerar(int[] original, Random random) {
+            return original.clone();
+        }
+    },
+    /** Os mesmos valores em ordem aleatória. */
+    ALEATORIO {
+        @Override
+        int[] gerar(int[] original, Random random) {
+            int[] chaves = original.clone();
+            for (int i = chaves.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int temp = chaves[i];
+                chaves[i] = chaves[j];
+                chaves[j] = temp;
+            }
+            return chaves;
+        }
+    },
+    /** Apenas oito valores distintos, na ordem do arquivo. */
+    MUITOS_DUPLICADOS {
+        @Override
+        int[] gerar(int[] original, Random random) {
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int chave : original) {
+                min = Math.min(min, chave);
+                max = Math.max(max, chave);
+            }
+            long largura = Math.max(1, ((long) max - min + 1) / 8 + 1);
+            int[] chaves = new int[original.length];
+            for (int i = 0; i < chaves.length; i++) {
+                chaves[i] = (int) ((original[i] - (long) min) / largura);
+            }
+            return chaves;
+        }
+    },
+    /** Chaves ordenadas com 1% das posições trocadas ao acaso. */
+    QUASE_ORDENADO {
+        @Override
+        int[] gerar(int[] original, Random random) {
+            int[] chaves = ORDENADO.gerar(original, random);
+            int trocas = Math.max(1, chaves.length / 100);
+            for (int t = 0; t < trocas && chaves.length > 1; t++) {
+                int i = random.nextInt(chaves.length);
+                int j = random.nextInt(chaves.length);
+                int temp = chaves[i];
+                chaves[i] = chaves[j];
+                chaves[j] = temp;
+            }
+            return chaves;
+        }
+    };
+
+    /**
+     * Gera as chaves no formato, com o tamanho pedido.
+     *
+     * @param base    As chaves na ordem original do arquivo.
+     * @param tamanho O número de chaves a gerar.
+     * @param semente A semente do gerador aleatório, para entradas repetíveis.
+     * @return As chaves geradas.
+     */
+    public int[] gerar(int[] base, int tamanho, long semente) {
+        int[] original = new int[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            original[i] = base[i % base.length];
+        }
+        return gerar(original, new Random(semente));
+    }
+
+    abstract int[] gerar(int[] original, Random random);
+}
@@ -0,0 +1,159 @@
+package Dados;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Uma {@code ColunaInt} é uma coluna de inteiros de tamanho fixo da
+ * {@link MatchTable}. Ela pode ficar em um {@code int[]} no heap ou, com
+ * {@code -Dordenacao.foraDoHeap=true}, em um {@link ByteBuffer} direto, fora
+ * do heap: as colunas de arquivos muito grandes deixam de pesar no heap e não
+ * são percorridas pelo coletor de lixo.
+ * <p>
+ * Uma coluna fora do heap usa no máximo 2 GB (cerca de 536 milhões de
+ * linhas), e a memória direta é limitada por {@code -XX:MaxDirectMemorySize}.
+ * <p>
+ * Só os valores guardados ficam fora do heap. {@link #coletar(int[])} copia
+ * as chaves de uma visão para um {@code int[]} no heap, porque os
+ * {@code Sorter}s ordenam arrays: durante uma ordenação, as chaves e a visão
+ * (8 bytes por linha, mais a memória auxiliar do algoritmo) ficam no heap.
+ */
+public abstract class ColunaInt {
+
+    private static final boolean FORA_DO_HEAP = Boolean.getBoolean("ordenacao.foraDoHeap");
+
+    /**
+     * Cria uma coluna zerada no heap ou fora dele, conforme
+     * {@code -Dordenacao.foraDoHeap}.
+     *
+     * @param tamanho O número de valores.
+     * @return A coluna.
+     */
+    public static ColunaInt criar(int tamanho) {
+        return FORA_DO_HEAP ? foraDoHeap(tamanho) : new NoHeap(new int[tamanho]);
+    }
+
+    /**
+     * @param tamanho O número de valores.
+     * @return Uma coluna zerada em memória direta.
+     */
+    public static ColunaInt foraDoHeap(int tamanho) {
+        if (tamanho > Integer.MAX_VALUE / 4) {
+            throw new IllegalArgumentException("Coluna grande demais para um buffer direto: " + tamanho);
+        }
+        return new ForaDoHeap(ByteBuffer.allocateDirect(4 * tamanho).order(ByteOrder.nativeOrder()).asIntBuffer());
+    }
+
+    /**
+     * @param valores Os valores, por exemplo uma região de um arquivo mapeado.
+     * @return Uma coluna sobre o buffer, sem cópia.
+     */
+    static ColunaInt sobre(IntBuffer valores) {
+        return new ForaDoHeap(valores);
+    }
+
+    /**
+     * @return O número de valores.
+     */
+    public abstract int tamanho();
+
+    /**
+     * @param i A posição.
+     * @return O valor da posição.
+     */
+    public abstract int get(int i);
+
+    /**
+     * @param i     A posição.
+     * @param valor O novo valor.
+     */
+    public abstract void set(int i, int valor);
+
+    /**
+     * Cria uma coluna maior do mesmo tipo (no heap ou fora dele), com os
+     * valores desta nas primeiras posições e as demais zeradas.
+     *
+     * @param tamanho O novo número de valores.
+     * @return A nova coluna; esta não é alterada.
+     */
+    public abstract ColunaInt ampliar(int tamanho);
+
+    /**
+     * Copia os valores das posições de uma visão, na ordem da visão. O array
+     * devolvido fica no heap, mesmo que a coluna esteja fora dele.
+     *
+     * @param visao Os índices das linhas.
+     * @return Um array com o valor de cada linha da visão.
+     */
+    public int[] coletar(int[] visao) {
+        int[] valores = new int[visao.length];
+        for (int i = 0; i < visao.length; i++) {
+            valores[i] = get(visao[i]);
+        }
+        return valores;
+    }
+
+    private static final class NoHeap extends ColunaInt {
+
+        private final int[] valores;
+
+        NoHeap(int[] valores) {
+            this.valores = valores;
+        }
+
+        @Override
+        public int tamanho() {
+            return valores.length;
+        }
+
+        @Override
+        public int get(int i) {
+            return valores[i];
+        }
+
+        @Override
+        public void set(int i, int valor) {
+            valores[i] = valor;
+        }
+
+        @Override
+        public ColunaInt ampliar(int tamanho) {
+            return new NoHeap(Arrays.copyOf(valores, tamanho));
+        }
+    }
+
+    private static final class ForaDoHeap extends ColunaInt {
+
+        private final IntBuffer valores;
+
+        ForaDoHeap(IntBuffer valores) {
+            this.valores = valores;
+        }
+
+        @Override
+        public int tamanho() {
+            return valores.limit();
+        }
+
+        @Override
+        public int get(int i) {
+            return valores.get(i);
+        }
+
+        @Override
+        public void set(int i, int valor) {
+            valores.put(i, valor);
+        }
+
+        @Override
+        public ColunaInt ampliar(int tamanho) {
+            ForaDoHeap maior = (ForaDoHeap) foraDoHeap(tamanho);
+            IntBuffer origem = valores.duplicate();
+            origem.rewind();
+            maior.valores.duplicate().put(origem);
+            return maior;
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package Dados;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A classe {@code CsvMapeado} lê um arquivo CSV mapeado em memória
+ * ({@link FileChannel#map}), sem criar uma {@code String} por linha.
+ * Na abertura, os bytes são percorridos uma vez para localizar o início e o
+ * fim de cada linha (respeitando as aspas, como o {@link LeitorCsv}); os
+ * campos são localizados sob demanda como fatias (posição, tamanho) do
+ * arquivo e só viram {@code String} quando o texto é realmente necessário.
+ * <p>
+ * O índice de linhas (início e fim de cada uma) fica em duas
+ * {@link ColunaInt}s, então sai do heap junto com as colunas da
+ * {@link MatchTable} quando {@code -Dordenacao.foraDoHeap=true}.
+ * <p>
+ * O arquivo é mapeado como um único buffer, então o limite é de 2 GB; para
+ * arquivos maiores use a ordenação externa.
+ */
+public final class CsvMapeado {
+
+    private final ByteBuffer dados;
+    private final int fimCabecalho;
+    private ColunaInt inicios;
+    private ColunaInt fins;
+    private int quantidade;
+
+    /**
+     * Usa um índice de linhas já conhecido (de um {@link SnapshotTabela}), sem
+     * percorrer o arquivo.
+     */
+    private CsvMapeado(ByteBuffer dados, int fimCabecalho, ColunaInt inicios, ColunaInt fins) {
+        this.dados = dados;
+        this.fimCabecalho = fimCabecalho;
+        this.inicios = inicios;
+        this.fins = fins;
+        quantidade = inicios.tamanho();
+    }
+
+    private CsvMapeado(ByteBuffer dados) {
+        this.dados = dados;
+        inicios = ColunaInt.criar(1024);
+        fins = ColunaInt.criar(1024);
+
+        int tamanho = dados.limit();
+        int inicio = 0;
+        int cabecalho = -1;
+        boolean insideQuotes = false;
+        for (int i = 0; i < tamanho; i++) {
+            byte b = dados.get(i);
+            if (b == '"') {
+                insideQuotes = !insideQuotes;
+            } else if (b == '\n' && !insideQuotes) {
+                cabecalho = adicionarLinha(cabecalho, inicio, i);
+                inicio = i + 1;
+            }
+        }
+        if (inicio < tamanho) {
+            cabecalho = adicionarLinha(cabecalho, inicio, tamanho);
+        }
+        fimCabecalho = Math.max(0, cabecalho);
+    }
+
+    /**
+     * Registra a linha {@code [inicio, fim)}, sem o {@code \r} final. A
+     * primeira linha é o cabeçalho.
+     *
+     * @return O fim do cabeçalho.
+     */
+    private int adicionarLinha(int cabecalho, int inicio, int fim) {
+        if (fim > inicio && dados.get(fim - 1) == '\r') {
+            fim--;
+        }
+        if (cabecalho < 0) {
+            return fim;
+        }
+        if (quantidade == inicios.tamanho()) {
+            inicios = inicios.ampliar(quantidade * 2);
+            fins = fins.ampliar(quantidade * 2);
+        }
+        inicios.set(quantidade, inicio);
+        fins.set(quantidade++, fim);
+        return cabecalho;
+    }
+
+    /**
+     * Mapeia o arquivo em memória e localiza as suas linhas.
+     *
+     * @param file O arquivo CSV.
+     * @return O arquivo mapeado.
+     * @throws IOException Se o arquivo não puder ser lido ou tiver mais de 2 GB.
+     */
+    public static CsvMapeado abrir(String file) throws IOException {
+        return new CsvMapeado(mapear(file));
+    }
+
+    /**
+     * Mapeia o arquivo em memória usando um índice de linhas já conhecido.
+     *
+     * @param file         O arquivo CSV.
+     * @param fimCabecalho O fim do cabeçalho.
+     * @param inicios      O início de cada linha de dados.
+     * @param fins         O fim de cada linha de dados, sem a quebra de linha.
+     * @return O arquivo mapeado.
+     */
+    static CsvMapeado abrir(String file, int fimCabecalho, ColunaInt inicios, ColunaInt fins) throws IOException {
+        return new CsvMapeado(mapear(file), fimCabecalho, inicios, fins);
+    }
+
+    private static MappedByteBuffer mapear(String file) throws IOException {
+        try (RandomAccessFile arquivo = new RandomAccessFile(file, "r");
+                FileChannel canal = arquivo.getChannel()) {
+            long tamanho = canal.size();
+            if (tamanho > Integer.MAX_VALUE) {
+                throw new IOException("Arquivo maior que 2 GB; use Ordenacao.OrdenacaoExterna: " + file);
+            }
+            return canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanho);
+        }
+    }
+
+    /**
+     * @return Um arquivo vazio, sem cabeçalho nem linhas.
+     */
+    public static CsvMapeado vazio() {
+        return new CsvMapeado(ByteBuffer.allocate(0));
+    }
+
+    /**
+     * @return O número de linhas de dados (sem o cabeçalho).
+     */
+    public int linhas() {
+        return quantidade;
+    }
+
+    int fimCabecalho() {
+        return fimCabecalho;
+    }
+
+    int inicio(int linha) {
+        return inicios.get(linha);
+    }
+
+    int fim(int linha) {
+        return fins.get(linha);
+    }
+
+    /**
+     * @return O cabeçalho, decodificado.
+     */
+    public String cabecalho() {
+        return texto(0, fimCabecalho);
+    }
+
+    /**
+     * @param linha O índice da linha de dados.
+     * @return A linha, decodificada.
+     */
+    public String linha(int linha) {
+        return texto(inicio(linha), fim(linha) - inicio(linha));
+    }
+
+    /**
+     * Localiza campos de uma linha em uma única passagem pelos seus bytes.
+     * Como no {@link LeitorCsv}, vírgulas entre aspas não separam campos e as
+     * aspas fazem parte da fatia.
+     *
+     * @param linha   O índice da linha de dados.
+     * @param colunas As colunas procuradas, em ordem crescente.
+     * @param fatias  Recebe, para cada coluna {@code i}, a posição em
+     *                {@code fatias[2 * i]} e o tamanho em {@code fatias[2 * i + 1]};
+     *                colunas ausentes ficam com tamanho 0.
+     */
+    public void campos(int linha, int[] colunas, int[] fatias) {
+        int fim = fim(linha);
+        int inicioCampo = inicio(linha);
+        int coluna = 0;
+        int procurada = 0;
+        boolean insideQuotes = false;
+        Arrays.fill(fatias, 0, 2 * colunas.length, 0);
+
+        for (int i = inicioCampo; i <= fim && procurada < colunas.length; i++) {
+            byte b = i < fim ? dados.get(i) : (byte) ',';
+            if (b == '"') {
+                insideQuotes = !insideQuotes;
+            } else if (b == ',' && (!insideQuotes || i == fim)) {
+                if (coluna == colunas[procurada]) {
+                    fatias[2 * procurada] = inicioCampo;
+                    fatias[2 * procurada + 1] = i - inicioCampo;
+                    procurada++;
+                }
+                coluna++;
+                inicioCampo = i + 1;
+            }
+        }
+    }
+
+    /**
+     * Decodifica uma fatia do arquivo (UTF-8).
+     *
+     * @param posicao A posição do primeiro byte.
+     * @param tamanho O número de bytes.
+     * @return O texto da fatia.
+     */
+    public String texto(int posicao, int tamanho) {
+        byte[] bytes = new byte[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            bytes[i] = dados.get(posicao + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Aponta uma {@link Fatia} reutilizável para uma região do arquivo.
+     *
+     * @param fatia   A fatia a ser reposicionada.
+     * @param posicao A posição do primeiro byte.
+     * @param tamanho O número de bytes.
+     * @return A própria fatia.
+     */
+    public Fatia fatia(Fatia fatia, int posicao, int tamanho) {
+        fatia.dados = dados;
+        fatia.posicao = posicao;
+        fatia.tamanho = tamanho;
+        return fatia;
+    }
+
+    /**
+     * Escreve os bytes originais do cabeçalho, sem decodificá-los.
+     */
+    public void copiarCabecalho(OutputStream out, byte[] buffer) throws IOException {
+        copiar(0, fimCabecalho, out, buffer);
+    }
+
+    /**
+     * Escreve os bytes originais de uma linha, sem decodificá-los.
+     *
+     * @param linha  O índice da linha de dados.
+     * @param out    O destino.
+     * @param buffer Um buffer temporário para a cópia.
+     */
+    public void copiarLinha(int linha, OutputStream out, byte[] buffer) throws IOException {
+        copiar(inicio(linha), fim(linha), out, buffer);
+    }
+
+    private void copiar(int inicio, int fim, OutputStream out, byte[] buffer) throws IOException {
+        ByteBuffer leitura = dados.duplicate();
+        leitura.position(inicio);
+        int restante = fim - inicio;
+        while (restante > 0) {
+            int parte = Math.min(restante, buffer.length);
+            leitura.get(buffer, 0, parte);
+            out.write(buffer, 0, parte);
+            restante -= parte;
+        }
+    }
+
+    /**
+     * Uma região do arquivo vista como texto ASCII, sem cópia. Serve para
+     * converter campos numéricos (público, datas) direto dos bytes; uma única
+     * instância pode ser reposicionada a cada campo.
+     */
+    public static final class Fatia implements CharSequence {
+
+        private ByteBuffer dados;
+        private int posicao;
+        private int tamanho;
+
+        @Override
+        public int length() {
+            return tamanho;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (dados.get(posicao + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Fatia sub = new Fatia();
+            sub.dados = dados;
+            sub.posicao = posicao + start;
+            sub.tamanho = end - start;
+            return sub;
+        }
+
+        @Override
+        public String toString() {
+            byte[] bytes = new byte[tamanho];
+            for (int i = 0; i < tamanho; i++) {
+                bytes[i] = dados.get(posicao + i);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package Dados;
+
+/**
+ * A classe {@code DatasEpoch} converte datas no formato {@code dd/MM/yyyy}
+ * em número de dias desde 01/01/1970 (o mesmo valor de
+ * {@code LocalDate.toEpochDay()}), sem criar objetos e sem
+ * {@code SimpleDateFormat}. A conversão é feita uma vez por linha, na carga,
+ * e os algoritmos passam a comparar apenas inteiros.
+ */
+public final class DatasEpoch {
+
+    /**
+     * Valor devolvido para datas vazias ou fora do formato esperado. Fica fora
+     * do intervalo das datas válidas (o dia 0 é 01/01/1970), então as datas
+     * inválidas ficam antes de todas as outras na ordenação.
+     */
+    public static final int DATA_INVALIDA = Integer.MIN_VALUE;
+
+    private DatasEpoch() {
+    }
+
+    /**
+     * Converte uma data {@code dd/MM/yyyy} em dias desde 01/01/1970. Aspas e
+     * espaços nas extremidades são ignorados.
+     *
+     * @param value A data a ser convertida.
+     * @return O número de dias, ou {@link #DATA_INVALIDA} se a data for inválida.
+     */
+    public static int decodificar(CharSequence value) {
+        int inicio = 0;
+        int fim = value.length();
+        while (inicio < fim && ignorar(value.charAt(inicio))) {
+            inicio++;
+        }
+        while (fim > inicio && ignorar(value.charAt(fim - 1))) {
+            fim--;
+        }
+
+        int dia = 0;
+        int mes = 0;
+        int ano = 0;
+        int parte = 0;
+        int digitos = 0;
+        for (int i = inicio; i < fim; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                int digito = c - '0';
+                if (parte == 0) {
+                    dia = dia * 10 + digito;
+                } else if (parte == 1) {
+                    mes = mes * 10 + digito;
+                } else {
+                    ano = ano * 10 + digito;
+                }
+                if (++digitos > 4) {
+                    return DATA_INVALIDA;
+                }
+            } else if (c == '/' && parte < 2 && digitos > 0) {
+                parte++;
+                digitos = 0;
+            } else {
+                return DATA_INVALIDA;
+            }
+        }
+        if (parte != 2 || digitos == 0) {
+            return DATA_INVALIDA;
+        }
+        return paraEpoch(ano, mes, dia);
+    }
+
+    /**
+     * Converte ano, mês e dia em dias desde 01/01/1970 (calendário gregoriano
+     * proléptico).
+     *
+     * @param ano O ano.
+     * @param mes O mês, de 1 a 12.
+     * @param dia O dia do mês.
+     * @return O número de dias, ou {@link #DATA_INVALIDA} se a data for inválida.
+     */
+    public static int paraEpoch(int ano, int mes, int dia) {
+        if (mes < 1 || mes > 12 || dia < 1 || dia > diasNoMes(ano, mes)) {
+            return DATA_INVALIDA;
+        }
+        // Conta os anos a partir de março, para que o dia 29/02 fique no fim do ano
+        int y = mes <= 2 ? ano - 1 : ano;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int anoDaEra = y - era * 400;
+        int diaDoAno = (153 * (mes + (mes > 2 ? -3 : 9)) + 2) / 5 + dia - 1;
+        int diaDaEra = anoDaEra * 365 + anoDaEra / 4 - anoDaEra / 100 + diaDoAno;
+        return era * 146097 + diaDaEra - 719468;
+    }
+
+    private static int diasNoMes(int ano, int mes) {
+        switch (mes) {
+            case 2:
+                boolean bissexto = (ano % 4 == 0 && ano % 100 != 0) || ano % 400 == 0;
+                return bissexto ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean ignorar(char c) {
+        return c == '"' || c == ' ';
+    }
+}
@@ -0,0 +1,50 @@
+package Dados;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A classe {@code Dicionario} codifica textos repetidos (times, ligas) em
+ * inteiros. Cada texto distinto é guardado uma única vez e recebe um
+ * identificador na ordem em que aparece; as colunas guardam só os
+ * identificadores.
+ */
+public class Dicionario {
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> textos = new ArrayList<>();
+
+    /**
+     * Devolve o identificador do texto, criando um novo quando o texto ainda
+     * não foi visto.
+     *
+     * @param texto O texto como aparece no arquivo.
+     * @return O identificador do texto.
+     */
+    public int codificar(String texto) {
+        Integer id = ids.get(texto);
+        if (id == null) {
+            id = textos.size();
+            ids.put(texto, id);
+            textos.add(texto);
+        }
+        return id;
+    }
+
+    /**
+     * @param id O identificador.
+     * @return O texto original.
+     */
+    public String texto(int id) {
+        return textos.get(id);
+    }
+
+    /**
+     * @return O número de textos distintos.
+     */
+    public int tamanho() {
+        return textos.size();
+    }
+}
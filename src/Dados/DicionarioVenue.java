@@ -0,0 +1,110 @@
+package Dados;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import Ordenacao.Contadores;
+import Ordenacao.QuickSortMultichave.QuickSortMultichave;
+
+/**
+ * A classe {@code DicionarioVenue} codifica os nomes de estádio em inteiros.
+ * Cada nome distinto recebe um identificador na ordem em que aparece, e cada
+ * identificador recebe uma <em>posição</em> (rank) na ordem alfabética do nome
+ * normalizado (sem caracteres não alfanuméricos e em minúsculas). Nomes que
+ * normalizam para o mesmo texto recebem a mesma posição.
+ * A normalização e a ordenação são feitas uma vez por estádio distinto, e não
+ * a cada comparação.
+ */
+public class DicionarioVenue {
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> nomes = new ArrayList<>();
+    private final List<String> normalizados = new ArrayList<>();
+    private int[] ranks;
+
+    /**
+     * Devolve o identificador do estádio, criando um novo quando o nome ainda
+     * não foi visto.
+     *
+     * @param venue O nome do estádio como aparece no arquivo.
+     * @return O identificador do estádio.
+     */
+    public int codificar(String venue) {
+        Integer id = ids.get(venue);
+        if (id == null) {
+            id = normalizados.size();
+            ids.put(venue, id);
+            nomes.add(venue);
+            normalizados.add(normalizeString(venue));
+            ranks = null;
+        }
+        return id;
+    }
+
+    /**
+     * @return O número de estádios distintos.
+     */
+    public int tamanho() {
+        return normalizados.size();
+    }
+
+    /**
+     * @param id O identificador do estádio.
+     * @return O nome do estádio como aparece no arquivo.
+     */
+    public String nome(int id) {
+        return nomes.get(id);
+    }
+
+    /**
+     * @param id O identificador do estádio.
+     * @return O nome normalizado do estádio.
+     */
+    public String normalizado(int id) {
+        return normalizados.get(id);
+    }
+
+    /**
+     * Devolve a posição de cada identificador na ordem alfabética dos nomes
+     * normalizados. O resultado é calculado na primeira chamada após a
+     * inclusão de novos estádios: os nomes normalizados (só letras e dígitos
+     * ASCII) são ordenados como bytes pelo {@link QuickSortMultichave}, e nomes
+     * iguais recebem a mesma posição. Essa ordenação faz parte da carga, e não
+     * da ordenação medida, então não entra nos {@link Contadores}.
+     *
+     * @return Um array em que {@code ranks[id]} é a posição do estádio.
+     */
+    public int[] ranks() {
+        if (ranks == null) {
+            byte[][] bytes = new byte[normalizados.size()][];
+            for (int id = 0; id < bytes.length; id++) {
+                bytes[id] = normalizados.get(id).getBytes(StandardCharsets.US_ASCII);
+            }
+            int[] ordem;
+            Contadores.suspender();
+            try {
+                ordem = QuickSortMultichave.permutacao(bytes);
+            } finally {
+                Contadores.retomar();
+            }
+
+            ranks = new int[bytes.length];
+            int posicao = -1;
+            for (int i = 0; i < ordem.length; i++) {
+                if (i == 0 || !Arrays.equals(bytes[ordem[i]], bytes[ordem[i - 1]])) {
+                    posicao++;
+                }
+                ranks[ordem[i]] = posicao;
+            }
+        }
+        return ranks;
+    }
+
+    private static String normalizeString(String str) {
+        return str.replaceAll("[^a-zA-Z0-9]", "").toLowerCase();
+    }
+}
@@ -0,0 +1,49 @@
+package Dados;
+
+import java.util.Arrays;
+
+/**
+ * A classe {@code LeitorCsv} reúne as rotinas de leitura de linhas CSV usadas
+ * pelas transformações e pelos algoritmos de ordenação.
+ * Os campos entre aspas (como {@code "Saturday, August 13"} e
+ * {@code "21,037"}) podem conter vírgulas e são mantidos com as aspas
+ * originais, para que a linha possa ser reescrita sem alterações.
+ */
+public final class LeitorCsv {
+
+    private LeitorCsv() {
+    }
+
+    /**
+     * Divide uma linha CSV em campos em uma única passagem, respeitando as
+     * aspas.
+     *
+     * @param line A linha a ser dividida.
+     * @return Um array com os campos da linha.
+     */
+    public static String[] dividirLinha(String line) {
+        String[] values = new String[16];
+        int valueCount = 0;
+        int inicio = 0;
+        boolean insideQuotes = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                insideQuotes = !insideQuotes;
+            } else if (c == ',' && !insideQuotes) {
+                if (valueCount == values.length) {
+                    values = Arrays.copyOf(values, values.length * 2);
+                }
+                values[valueCount++] = line.substring(inicio, i);
+                inicio = i + 1;
+            }
+        }
+        if (valueCount == values.length) {
+            values = Arrays.copyOf(values, values.length + 1);
+        }
+        values[valueCount++] = line.substring(inicio);
+
+        return valueCount == values.length ? values : Arrays.copyOf(values, valueCount);
+    }
+}
@@ -0,0 +1,293 @@
+package Dados;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+import Ordenacao.Paralelismo;
+
+/**
+ * A classe {@code LeitorCsvParalelo} lê um arquivo CSV em blocos de bytes e
+ * divide e processa as linhas de cada bloco em paralelo, entregando os
+ * resultados na ordem do arquivo.
+ * <p>
+ * Campos entre aspas podem conter vírgulas (e até quebras de linha), então
+ * uma quebra de linha só termina um registro fora das aspas. Para achar esses
+ * pontos sem ler o bloco sequencialmente, cada bloco é dividido em trechos, um
+ * por thread do {@link Paralelismo#pool()}:
+ * <ol>
+ * <li>cada trecho conta as suas aspas em paralelo;</li>
+ * <li>a paridade acumulada dessas contagens diz se cada trecho começa dentro
+ * ou fora de aspas;</li>
+ * <li>cada trecho acha as suas quebras de registro, decodifica, divide (com o
+ * {@link LeitorCsv}) e processa as suas linhas em paralelo.</li>
+ * </ol>
+ * O registro incompleto no fim de um bloco é levado para o início do próximo,
+ * e só um bloco por vez fica em memória, qualquer que seja o tamanho do
+ * arquivo.
+ */
+public final class LeitorCsvParalelo {
+
+    /**
+     * Recebe, na ordem do arquivo, o resultado do processamento de cada linha.
+     *
+     * @param <R> O tipo do resultado.
+     */
+    public interface Consumidor<R> {
+        void aceitar(R resultado) throws IOException;
+    }
+
+    private static final int TAMANHO_BLOCO = 16 << 20;
+    /** Blocos menores que isto são processados por um único trecho. */
+    private static final int TAMANHO_MINIMO_TRECHO = 1 << 20;
+
+    private final FileChannel canal;
+    private final RandomAccessFile arquivo;
+    private final Charset charset = Charset.defaultCharset();
+    private byte[] bloco = new byte[TAMANHO_BLOCO];
+    private int preenchido;
+    private int inicioDados;
+    private boolean fimArquivo;
+    private final String cabecalho;
+
+    private LeitorCsvParalelo(String file) throws IOException {
+        arquivo = new RandomAccessFile(file, "r");
+        canal = arquivo.getChannel();
+        lerMais();
+        int fim = proximaQuebra(0, preenchido, false);
+        while (fim < 0 && !fimArquivo) {
+            lerMais();
+            fim = proximaQuebra(0, preenchido, false);
+        }
+        if (fim < 0) {
+            fim = preenchido;
+        }
+        cabecalho = preenchido == 0 ? null : decodificar(0, fim);
+        inicioDados = Math.min(preenchido, fim + 1);
+    }
+
+    /**
+     * Abre o arquivo e lê o cabeçalho.
+     *
+     * @param file O arquivo CSV.
+     * @return O leitor, posicionado na primeira linha de dados.
+     */
+    public static LeitorCsvParalelo abrir(String file) throws IOException {
+        return new LeitorCsvParalelo(file);
+    }
+
+    /**
+     * @return A primeira linha do arquivo, ou {@code null} se ele estiver vazio.
+     */
+    public String cabecalho() {
+        return cabecalho;
+    }
+
+    /**
+     * Processa todas as linhas de dados. O {@code processador} é chamado em
+     * paralelo, em várias threads, com os campos de cada linha; o
+     * {@code consumidor} é chamado em uma única thread, com os resultados na
+     * ordem das linhas no arquivo. Resultados {@code null} não são entregues.
+     *
+     * @param processador A transformação de cada linha (deve ser thread-safe).
+     * @param consumidor  O destino dos resultados.
+     */
+    public <R> void processar(Function<String[], R> processador, Consumidor<R> consumidor) throws IOException {
+        try {
+            while (true) {
+                if (inicioDados < preenchido) {
+                    Bloco<R> resultado = processarBloco(inicioDados, preenchido, processador);
+                    for (List<R> resultados : resultado.resultados) {
+                        for (R r : resultados) {
+                            if (r != null) {
+                                consumidor.aceitar(r);
+                            }
+                        }
+                    }
+                    inicioDados = resultado.pendente;
+                }
+                if (fimArquivo) {
+                    break;
+                }
+                lerMais();
+            }
+        } finally {
+            canal.close();
+            arquivo.close();
+        }
+    }
+
+    /**
+     * Move o trecho ainda não processado para o início do bloco e completa o
+     * bloco com os próximos bytes do arquivo, aumentando-o se um único
+     * registro não couber nele.
+     */
+    private void lerMais() throws IOException {
+        int restante = preenchido - inicioDados;
+        System.arraycopy(bloco, inicioDados, bloco, 0, restante);
+        preenchido = restante;
+        inicioDados = 0;
+        if (preenchido == bloco.length) {
+            bloco = Arrays.copyOf(bloco, bloco.length * 2);
+        }
+        ByteBuffer destino = ByteBuffer.wrap(bloco, preenchido, bloco.length - preenchido);
+        while (destino.hasRemaining()) {
+            if (canal.read(destino) < 0) {
+                fimArquivo = true;
+                break;
+            }
+        }
+        preenchido = destino.position();
+    }
+
+    /**
+     * @return A posição da primeira quebra de linha fora de aspas em
+     *         {@code [inicio, fim)}, começando no estado {@code insideQuotes},
+     *         ou -1.
+     */
+    private int proximaQuebra(int inicio, int fim, boolean insideQuotes) {
+        for (int i = inicio; i < fim; i++) {
+            byte b = bloco[i];
+            if (b == '"') {
+                insideQuotes = !insideQuotes;
+            } else if (b == '\n' && !insideQuotes) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Resultado do processamento de um bloco: as saídas de cada trecho e o
+     * início do registro incompleto no fim do bloco (ou o fim do bloco).
+     */
+    private static final class Bloco<R> {
+        List<R>[] resultados;
+        int pendente;
+    }
+
+    /**
+     * Divide {@code [inicio, fim)} em trechos e processa os trechos em
+     * paralelo. Cada trecho processa os registros que começam nele, mesmo que
+     * terminem em um trecho seguinte; um registro sem quebra de linha antes de
+     * {@code fim} só é processado no fim do arquivo.
+     */
+    private <R> Bloco<R> processarBloco(int inicio, int fim, Function<String[], R> processador) {
+        int threads = Paralelismo.pool().getParallelism();
+        int trechos = Math.max(1, Math.min(threads, (fim - inicio) / TAMANHO_MINIMO_TRECHO));
+        int[] limites = new int[trechos + 1];
+        for (int t = 0; t <= trechos; t++) {
+            limites[t] = inicio + (int) ((long) (fim - inicio) * t / trechos);
+        }
+
+        // 1. Paridade das aspas de cada trecho
+        boolean[] paridade = new boolean[trechos];
+        executar(trechos, t -> {
+            boolean impar = false;
+            for (int i = limites[t]; i < limites[t + 1]; i++) {
+                if (bloco[i] == '"') {
+                    impar = !impar;
+                }
+            }
+            paridade[t] = impar;
+        });
+
+        // 2. Estado (dentro ou fora de aspas) no início de cada trecho
+        boolean[] dentroNoInicio = new boolean[trechos];
+        for (int t = 1; t < trechos; t++) {
+            dentroNoInicio[t] = dentroNoInicio[t - 1] ^ paridade[t - 1];
+        }
+
+        // 3. Cada trecho processa os registros que começam nele
+        @SuppressWarnings("unchecked")
+        List<R>[] resultados = (List<R>[]) new List<?>[trechos];
+        int[] pendentes = new int[trechos];
+        executar(trechos, t -> {
+            List<R> saida = new ArrayList<>();
+            resultados[t] = saida;
+            pendentes[t] = -1;
+            int limite = limites[t + 1];
+            int inicioRegistro = limites[t];
+            if (t > 0 && !(bloco[inicioRegistro - 1] == '\n' && !dentroNoInicio[t])) {
+                // O primeiro registro começou em um trecho anterior
+                inicioRegistro = proximaQuebra(inicioRegistro, limite, dentroNoInicio[t]) + 1;
+                if (inicioRegistro == 0) {
+                    return;
+                }
+            }
+            while (inicioRegistro < limite) {
+                int quebra = proximaQuebra(inicioRegistro, fim, false);
+                if (quebra < 0) {
+                    if (fimArquivo) {
+                        saida.add(processarLinha(inicioRegistro, fim, processador));
+                    } else {
+                        pendentes[t] = inicioRegistro;
+                    }
+                    return;
+                }
+                saida.add(processarLinha(inicioRegistro, quebra, processador));
+                inicioRegistro = quebra + 1;
+            }
+        });
+
+        Bloco<R> resultado = new Bloco<>();
+        resultado.resultados = resultados;
+        resultado.pendente = fim;
+        for (int t = 0; t < trechos; t++) {
+            if (pendentes[t] >= 0) {
+                resultado.pendente = pendentes[t];
+                break;
+            }
+        }
+        return resultado;
+    }
+
+    private <R> R processarLinha(int inicio, int fim, Function<String[], R> processador) {
+        return processador.apply(LeitorCsv.dividirLinha(decodificar(inicio, fim)));
+    }
+
+    private String decodificar(int inicio, int fim) {
+        if (fim > inicio && bloco[fim - 1] == '\r') {
+            fim--;
+        }
+        return new String(bloco, inicio, fim - inicio, charset);
+    }
+
+    private interface Trecho {
+        void executar(int t);
+    }
+
+    private static void executar(int trechos, Trecho trecho) {
+        if (trechos == 1) {
+            trecho.executar(0);
+            return;
+        }
+        List<RecursiveAction> tarefas = new ArrayList<>(trechos);
+        for (int t = 0; t < trechos; t++) {
+            int indice = t;
+            tarefas.add(new RecursiveAction() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected void compute() {
+                    trecho.executar(indice);
+                }
+            });
+        }
+        Paralelismo.pool().invoke(new RecursiveAction() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void compute() {
+                invokeAll(tarefas);
+            }
+        });
+    }
+}
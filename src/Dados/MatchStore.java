@@ -0,0 +1,244 @@
+package Dados;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A classe {@code MatchStore} guarda em memória as partidas de um arquivo T2,
+ * lidas e interpretadas uma única vez por processo.
+ * O arquivo é lido por um {@link CsvMapeado}: as linhas ficam no arquivo
+ * mapeado em memória e são copiadas byte a byte na escrita dos arquivos
+ * ordenados, sem virar {@code String}. As colunas ficam em uma
+ * {@link MatchTable}, já convertidas: {@code attendance} como inteiro,
+ * {@code full_date} como número de dias desde 01/01/1970 e {@code venue} como
+ * um identificador do {@link DicionarioVenue}. Depois da primeira leitura, as
+ * colunas são gravadas em um {@link SnapshotTabela} e as execuções seguintes
+ * só mapeiam esse arquivo.
+ * Os algoritmos de ordenação não movem as linhas: eles ordenam
+ * <em>visões</em>, arrays com os índices das linhas no store.
+ */
+public final class MatchStore {
+
+    public static final int ATTENDANCE_INDEX = MatchTable.ATTENDANCE_INDEX;
+    public static final int VENUE_INDEX = MatchTable.VENUE_INDEX;
+    public static final int FULL_DATE_INDEX = MatchTable.FULL_DATE_INDEX;
+
+    private static final Map<String, MatchStore> carregados = new HashMap<>();
+
+    private final CsvMapeado csv;
+    private final MatchTable tabela;
+
+    private MatchStore(MatchTable tabela) {
+        this.csv = tabela.csv();
+        this.tabela = tabela;
+    }
+
+    /**
+     * Devolve o store do arquivo informado, lendo o arquivo apenas na primeira
+     * chamada do processo.
+     *
+     * @param file O arquivo CSV (T2) a ser carregado.
+     * @return O store com as partidas do arquivo.
+     */
+    public static synchronized MatchStore carregar(String file) {
+        MatchStore store = carregados.get(file);
+        if (store == null) {
+            store = lerArquivo(file);
+            carregados.put(file, store);
+        }
+        return store;
+    }
+
+    /**
+     * Carrega a tabela do {@link SnapshotTabela} do arquivo, quando ele está em
+     * dia; senão interpreta o CSV e grava um novo snapshot para as próximas
+     * execuções. Com {@code -Dordenacao.snapshot=false} o CSV é sempre
+     * interpretado e nenhum snapshot é usado.
+     */
+    private static MatchStore lerArquivo(String file) {
+        boolean usarSnapshot = Boolean.parseBoolean(System.getProperty("ordenacao.snapshot", "true"));
+        try {
+            MatchTable tabela = usarSnapshot ? SnapshotTabela.carregar(file) : null;
+            if (tabela == null) {
+                tabela = new MatchTable(CsvMapeado.abrir(file));
+                if (usarSnapshot) {
+                    gravarSnapshot(tabela, file);
+                }
+            }
+            return new MatchStore(tabela);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return new MatchStore(new MatchTable(CsvMapeado.vazio()));
+        }
+    }
+
+    private static void gravarSnapshot(MatchTable tabela, String file) {
+        try {
+            SnapshotTabela.gravar(tabela, file);
+        } catch (IOException e) {
+            System.err.println("Não foi possível gravar o snapshot de " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return O número de partidas no store.
+     */
+    public int tamanho() {
+        return tabela.tamanho();
+    }
+
+    /**
+     * @return As colunas das partidas.
+     */
+    public MatchTable tabela() {
+        return tabela;
+    }
+
+    /**
+     * @return Uma nova visão com todas as linhas na ordem original do arquivo.
+     */
+    public int[] visaoOriginal() {
+        int[] visao = new int[tabela.tamanho()];
+        for (int i = 0; i < visao.length; i++) {
+            visao[i] = i;
+        }
+        return visao;
+    }
+
+    /**
+     * @param linha O índice da linha no store.
+     * @return O público da partida, ou 0 quando não informado.
+     */
+    public int attendance(int linha) {
+        return tabela.attendance(linha);
+    }
+
+    /**
+     * Extrai as chaves de público de uma visão, na ordem da visão. Os
+     * algoritmos ordenam o par (chave, linha) sem voltar ao store a cada
+     * comparação.
+     *
+     * @param visao Os índices das linhas.
+     * @return Um array com o público de cada linha da visão.
+     */
+    public int[] chavesAttendance(int[] visao) {
+        return tabela.chavesAttendance(visao);
+    }
+
+    /**
+     * @param linha O índice da linha no store.
+     * @return A data da partida em dias desde 01/01/1970.
+     */
+    public int fullDate(int linha) {
+        return tabela.fullDate(linha);
+    }
+
+    /**
+     * Extrai as chaves de data (dias desde 01/01/1970) de uma visão, na ordem
+     * da visão.
+     *
+     * @param visao Os índices das linhas.
+     * @return Um array com a data de cada linha da visão.
+     */
+    public int[] chavesFullDate(int[] visao) {
+        return tabela.chavesFullDate(visao);
+    }
+
+    /**
+     * @param linha O índice da linha no store.
+     * @return O identificador do estádio da partida.
+     */
+    public int venue(int linha) {
+        return tabela.venue(linha);
+    }
+
+    /**
+     * Extrai as chaves de estádio de uma visão, na ordem da visão. A chave é a
+     * posição do estádio na ordem alfabética dos nomes normalizados, calculada
+     * uma vez pelo {@link DicionarioVenue}.
+     *
+     * @param visao Os índices das linhas.
+     * @return Um array com a posição do estádio de cada linha da visão.
+     */
+    public int[] chavesVenue(int[] visao) {
+        return tabela.chavesVenue(visao);
+    }
+
+    /**
+     * @return O dicionário de estádios do store.
+     */
+    public DicionarioVenue venues() {
+        return tabela.venues();
+    }
+
+    /**
+     * @param linha O índice da linha no store.
+     * @return Os campos originais da linha, decodificados sob demanda.
+     */
+    public String[] linha(int linha) {
+        return LeitorCsv.dividirLinha(csv.linha(linha));
+    }
+
+    /**
+     * Inverte a ordem de uma visão.
+     *
+     * @param visao A visão a ser invertida.
+     */
+    public static void inverter(int[] visao) {
+        for (int i = 0; i < visao.length / 2; i++) {
+            int temp = visao[i];
+            visao[i] = visao[visao.length - i - 1];
+            visao[visao.length - i - 1] = temp;
+        }
+    }
+
+    /**
+     * Escreve as linhas de uma visão, na ordem da visão, em um arquivo CSV com
+     * o cabeçalho original. Os bytes de cada linha são copiados do arquivo
+     * mapeado, sem decodificação.
+     *
+     * @param visao      Os índices das linhas a serem escritas.
+     * @param outputFile O arquivo CSV de saída.
+     */
+    public void escrever(int[] visao, String outputFile) {
+        byte[] quebraLinha = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+        byte[] buffer = new byte[8192];
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(outputFile), 1 << 16)) {
+            csv.copiarCabecalho(out, buffer);
+            out.write(quebraLinha);
+            for (int linha : visao) {
+                csv.copiarLinha(linha, out, buffer);
+                out.write(quebraLinha);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Converte o público em inteiro, ignorando aspas e separadores de milhar.
+     * Valores vazios ou não numéricos viram 0.
+     *
+     * @param value O campo attendance como aparece no arquivo.
+     * @return O público da partida.
+     */
+    public static int parseToInt(CharSequence value) {
+        int resultado = 0;
+        boolean possuiDigito = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                resultado = resultado * 10 + (c - '0');
+                possuiDigito = true;
+            } else if (c != '"' && c != ',') {
+                return 0;
+            }
+        }
+        return possuiDigito ? resultado : 0;
+    }
+}
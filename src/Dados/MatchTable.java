@@ -0,0 +1,315 @@
+package Dados;
+
+import java.util.List;
+
+/**
+ * A classe {@code MatchTable} guarda as partidas em colunas (um array por
+ * coluna) em vez de um {@code String[]} por linha.
+ * <ul>
+ * <li>id, year, attendance, home_score, away_score e full_date são arrays de
+ * {@code int};</li>
+ * <li>home, away e league são identificadores de um {@link Dicionario} (os
+ * times da casa e visitantes compartilham o mesmo), e venue é um
+ * identificador do {@link DicionarioVenue};</li>
+ * <li>os autores dos gols não são decodificados na carga: a tabela guarda só
+ * a posição e o tamanho do campo no {@link CsvMapeado}, e o texto é criado
+ * quando pedido.</li>
+ * </ul>
+ * Uma linha ocupa assim algumas dezenas de bytes, sem nenhum objeto, e
+ * percorrer uma coluna (para extrair as chaves de uma ordenação) lê memória
+ * contígua. As colunas são {@link ColunaInt}s e podem ficar fora do heap
+ * ({@code -Dordenacao.foraDoHeap=true}), assim como o índice de linhas do
+ * {@link CsvMapeado}; o texto das linhas já fica fora dele, no arquivo
+ * mapeado. A tabela nunca é reordenada: as ordenações produzem permutações
+ * dos índices das linhas.
+ * <p>
+ * Só o que a tabela guarda sai do heap. Uma ordenação trabalha com a visão e
+ * as chaves copiadas dela ({@link #chavesAttendance}, {@link #chavesFullDate}
+ * e {@link #chavesVenue}), que são {@code int[]} no heap: 8 bytes por linha,
+ * mais a memória auxiliar do algoritmo.
+ */
+public final class MatchTable {
+
+    public static final int ID_INDEX = 0;
+    public static final int HOME_INDEX = 1;
+    public static final int AWAY_INDEX = 2;
+    public static final int YEAR_INDEX = 4;
+    public static final int ATTENDANCE_INDEX = 6;
+    public static final int VENUE_INDEX = 7;
+    public static final int LEAGUE_INDEX = 8;
+    public static final int HOME_SCORE_INDEX = 9;
+    public static final int AWAY_SCORE_INDEX = 10;
+    public static final int HOME_GOAL_SCORERS_INDEX = 11;
+    public static final int AWAY_GOAL_SCORERS_INDEX = 12;
+    public static final int FULL_DATE_INDEX = 13;
+
+    private static final int[] COLUNAS = {ID_INDEX, HOME_INDEX, AWAY_INDEX, YEAR_INDEX, ATTENDANCE_INDEX,
+            VENUE_INDEX, LEAGUE_INDEX, HOME_SCORE_INDEX, AWAY_SCORE_INDEX, HOME_GOAL_SCORERS_INDEX,
+            AWAY_GOAL_SCORERS_INDEX, FULL_DATE_INDEX};
+
+    /**
+     * Os nomes das colunas inteiras, na ordem de {@link #colunas()}; é o
+     * esquema gravado no {@link SnapshotTabela}.
+     */
+    static final String[] ESQUEMA = {"id", "year", "attendance", "home_score", "away_score", "full_date", "home",
+            "away", "venue", "league", "home_goal_scorers", "away_goal_scorers"};
+
+    private final CsvMapeado csv;
+    private final int tamanho;
+
+    private final ColunaInt id;
+    private final ColunaInt year;
+    private final ColunaInt attendance;
+    private final ColunaInt homeScore;
+    private final ColunaInt awayScore;
+    private final ColunaInt fullDate;
+
+    private final ColunaInt home;
+    private final ColunaInt away;
+    private final ColunaInt venue;
+    private final ColunaInt league;
+    private final Dicionario times = new Dicionario();
+    private final Dicionario ligas = new Dicionario();
+    private final DicionarioVenue venues = new DicionarioVenue();
+
+    /** Posição e tamanho, no arquivo, dos autores dos gols de cada linha. */
+    private final ColunaInt homeGoalScorers;
+    private final ColunaInt awayGoalScorers;
+
+    /**
+     * Monta as colunas a partir de um arquivo T2 mapeado, em uma única
+     * passagem pelos campos de cada linha.
+     *
+     * @param csv O arquivo T2.
+     */
+    public MatchTable(CsvMapeado csv) {
+        this.csv = csv;
+        tamanho = csv.linhas();
+        id = ColunaInt.criar(tamanho);
+        year = ColunaInt.criar(tamanho);
+        attendance = ColunaInt.criar(tamanho);
+        homeScore = ColunaInt.criar(tamanho);
+        awayScore = ColunaInt.criar(tamanho);
+        fullDate = ColunaInt.criar(tamanho);
+        home = ColunaInt.criar(tamanho);
+        away = ColunaInt.criar(tamanho);
+        venue = ColunaInt.criar(tamanho);
+        league = ColunaInt.criar(tamanho);
+        homeGoalScorers = ColunaInt.criar(2 * tamanho);
+        awayGoalScorers = ColunaInt.criar(2 * tamanho);
+
+        int[] fatias = new int[2 * COLUNAS.length];
+        CsvMapeado.Fatia fatia = new CsvMapeado.Fatia();
+        for (int i = 0; i < tamanho; i++) {
+            csv.campos(i, COLUNAS, fatias);
+            id.set(i, MatchStore.parseToInt(csv.fatia(fatia, fatias[0], fatias[1])));
+            home.set(i, times.codificar(csv.texto(fatias[2], fatias[3])));
+            away.set(i, times.codificar(csv.texto(fatias[4], fatias[5])));
+            year.set(i, MatchStore.parseToInt(csv.fatia(fatia, fatias[6], fatias[7])));
+            attendance.set(i, MatchStore.parseToInt(csv.fatia(fatia, fatias[8], fatias[9])));
+            venue.set(i, venues.codificar(csv.texto(fatias[10], fatias[11])));
+            league.set(i, ligas.codificar(csv.texto(fatias[12], fatias[13])));
+            homeScore.set(i, MatchStore.parseToInt(csv.fatia(fatia, fatias[14], fatias[15])));
+            awayScore.set(i, MatchStore.parseToInt(csv.fatia(fatia, fatias[16], fatias[17])));
+            homeGoalScorers.set(2 * i, fatias[18]);
+            homeGoalScorers.set(2 * i + 1, fatias[19]);
+            awayGoalScorers.set(2 * i, fatias[20]);
+            awayGoalScorers.set(2 * i + 1, fatias[21]);
+            fullDate.set(i, DatasEpoch.decodificar(csv.fatia(fatia, fatias[22], fatias[23])));
+        }
+        venues.ranks();
+    }
+
+    /**
+     * Monta a tabela com colunas já prontas (lidas de um
+     * {@link SnapshotTabela}).
+     *
+     * @param csv      O arquivo T2.
+     * @param colunas  As colunas, na ordem de {@link #ESQUEMA}.
+     * @param times    Os nomes dos times, na ordem dos identificadores.
+     * @param ligas    Os nomes das ligas, na ordem dos identificadores.
+     * @param estadios Os nomes dos estádios, na ordem dos identificadores.
+     */
+    MatchTable(CsvMapeado csv, ColunaInt[] colunas, List<String> times, List<String> ligas, List<String> estadios) {
+        this.csv = csv;
+        tamanho = csv.linhas();
+        id = colunas[0];
+        year = colunas[1];
+        attendance = colunas[2];
+        homeScore = colunas[3];
+        awayScore = colunas[4];
+        fullDate = colunas[5];
+        home = colunas[6];
+        away = colunas[7];
+        venue = colunas[8];
+        league = colunas[9];
+        homeGoalScorers = colunas[10];
+        awayGoalScorers = colunas[11];
+        for (String time : times) {
+            this.times.codificar(time);
+        }
+        for (String liga : ligas) {
+            this.ligas.codificar(liga);
+        }
+        for (String estadio : estadios) {
+            venues.codificar(estadio);
+        }
+        venues.ranks();
+    }
+
+    /**
+     * @return As colunas inteiras, na ordem de {@link #ESQUEMA}.
+     */
+    ColunaInt[] colunas() {
+        return new ColunaInt[] {id, year, attendance, homeScore, awayScore, fullDate, home, away, venue, league,
+                homeGoalScorers, awayGoalScorers};
+    }
+
+    /**
+     * @return O dicionário de times.
+     */
+    Dicionario times() {
+        return times;
+    }
+
+    /**
+     * @return O dicionário de ligas.
+     */
+    Dicionario ligas() {
+        return ligas;
+    }
+
+    /**
+     * @return O número de linhas.
+     */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * @return O arquivo de onde as linhas foram lidas.
+     */
+    public CsvMapeado csv() {
+        return csv;
+    }
+
+    /**
+     * @return O identificador da partida.
+     */
+    public int id(int linha) {
+        return id.get(linha);
+    }
+
+    /**
+     * @return O ano da partida.
+     */
+    public int year(int linha) {
+        return year.get(linha);
+    }
+
+    /**
+     * @return O público da partida, ou 0 quando não informado.
+     */
+    public int attendance(int linha) {
+        return attendance.get(linha);
+    }
+
+    /**
+     * @return Os gols do time da casa.
+     */
+    public int homeScore(int linha) {
+        return homeScore.get(linha);
+    }
+
+    /**
+     * @return Os gols do time visitante.
+     */
+    public int awayScore(int linha) {
+        return awayScore.get(linha);
+    }
+
+    /**
+     * @return A data da partida em dias desde 01/01/1970.
+     */
+    public int fullDate(int linha) {
+        return fullDate.get(linha);
+    }
+
+    /**
+     * @return O time da casa.
+     */
+    public String home(int linha) {
+        return times.texto(home.get(linha));
+    }
+
+    /**
+     * @return O time visitante.
+     */
+    public String away(int linha) {
+        return times.texto(away.get(linha));
+    }
+
+    /**
+     * @return A liga da partida.
+     */
+    public String league(int linha) {
+        return ligas.texto(league.get(linha));
+    }
+
+    /**
+     * @return O identificador do estádio no {@link #venues() dicionário}.
+     */
+    public int venue(int linha) {
+        return venue.get(linha);
+    }
+
+    /**
+     * @return O dicionário de estádios da tabela.
+     */
+    public DicionarioVenue venues() {
+        return venues;
+    }
+
+    /**
+     * @return Os autores dos gols do time da casa, decodificados agora.
+     */
+    public String homeGoalScorers(int linha) {
+        return csv.texto(homeGoalScorers.get(2 * linha), homeGoalScorers.get(2 * linha + 1));
+    }
+
+    /**
+     * @return Os autores dos gols do time visitante, decodificados agora.
+     */
+    public String awayGoalScorers(int linha) {
+        return csv.texto(awayGoalScorers.get(2 * linha), awayGoalScorers.get(2 * linha + 1));
+    }
+
+    /**
+     * @param visao Os índices das linhas.
+     * @return O público de cada linha da visão.
+     */
+    public int[] chavesAttendance(int[] visao) {
+        return attendance.coletar(visao);
+    }
+
+    /**
+     * @param visao Os índices das linhas.
+     * @return A data (dias desde 01/01/1970) de cada linha da visão.
+     */
+    public int[] chavesFullDate(int[] visao) {
+        return fullDate.coletar(visao);
+    }
+
+    /**
+     * @param visao Os índices das linhas.
+     * @return A posição alfabética do estádio de cada linha da visão.
+     */
+    public int[] chavesVenue(int[] visao) {
+        int[] ranks = venues.ranks();
+        int[] chaves = new int[visao.length];
+        for (int i = 0; i < visao.length; i++) {
+            chaves[i] = ranks[venue.get(visao[i])];
+        }
+        return chaves;
+    }
+}
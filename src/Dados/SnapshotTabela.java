@@ -0,0 +1,277 @@
+package Dados;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A classe {@code SnapshotTabela} grava uma {@link MatchTable} em um arquivo
+ * binário ao lado do CSV de origem ({@code <csv>.snap}) e a recarrega
+ * mapeando esse arquivo em memória, sem interpretar o CSV de novo.
+ * <p>
+ * Formato (inteiros little-endian):
+ * <ul>
+ * <li>cabeçalho: mágico, versão, tamanho e data de modificação do CSV de
+ * origem, número de linhas e o esquema (nome, tipo e número de valores de cada
+ * coluna);</li>
+ * <li>o índice de linhas do CSV (fim do cabeçalho, início e fim de cada
+ * linha);</li>
+ * <li>um bloco por coluna, com os valores em sequência;</li>
+ * <li>os textos dos dicionários de times, ligas e estádios.</li>
+ * </ul>
+ * As colunas e o índice de linhas carregados são visões sobre o arquivo
+ * mapeado, fora do heap. O snapshot é descartado (e refeito) quando o tamanho
+ * ou a data de modificação do CSV mudam, quando o esquema ou a versão não
+ * conferem ou quando o arquivo está corrompido.
+ */
+public final class SnapshotTabela {
+
+    private static final int MAGICO = 0x50414E53; // "SNAP"
+    private static final int VERSAO = 2; // 2: DatasEpoch.DATA_INVALIDA passou a ser Integer.MIN_VALUE
+    private static final byte TIPO_INT = 1;
+    private static final String EXTENSAO = ".snap";
+
+    private SnapshotTabela() {
+    }
+
+    /**
+     * @param csvFile O arquivo CSV de origem.
+     * @return O arquivo do snapshot do CSV.
+     */
+    public static File arquivo(String csvFile) {
+        return new File(csvFile + EXTENSAO);
+    }
+
+    /**
+     * Carrega a tabela do snapshot do CSV, se ele existir e estiver em dia.
+     *
+     * @param csvFile O arquivo CSV de origem.
+     * @return A tabela, ou {@code null} se não houver um snapshot válido.
+     */
+    public static MatchTable carregar(String csvFile) throws IOException {
+        File fonte = new File(csvFile);
+        File snapshot = arquivo(csvFile);
+        if (!fonte.isFile() || !snapshot.isFile()) {
+            return null;
+        }
+
+        MappedByteBuffer mapeado;
+        try (RandomAccessFile arquivo = new RandomAccessFile(snapshot, "r");
+                FileChannel canal = arquivo.getChannel()) {
+            if (canal.size() > Integer.MAX_VALUE) {
+                return null;
+            }
+            mapeado = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+        ByteBuffer dados = mapeado.order(ByteOrder.LITTLE_ENDIAN);
+
+        try {
+            if (dados.getInt() != MAGICO || dados.getInt() != VERSAO || dados.getLong() != fonte.length()
+                    || dados.getLong() != fonte.lastModified()) {
+                return null;
+            }
+            int linhas = dados.getInt();
+            int colunas = dados.getInt();
+            if (colunas != MatchTable.ESQUEMA.length) {
+                return null;
+            }
+            int[] valores = new int[colunas];
+            for (int c = 0; c < colunas; c++) {
+                byte[] nome = new byte[dados.getInt()];
+                dados.get(nome);
+                if (!MatchTable.ESQUEMA[c].equals(new String(nome, StandardCharsets.UTF_8))
+                        || dados.get() != TIPO_INT) {
+                    return null;
+                }
+                valores[c] = dados.getInt();
+            }
+            alinhar(dados);
+
+            int fimCabecalho = dados.getInt();
+            ColunaInt inicios = lerColuna(dados, linhas);
+            ColunaInt fins = lerColuna(dados, linhas);
+
+            ColunaInt[] blocos = new ColunaInt[colunas];
+            for (int c = 0; c < colunas; c++) {
+                blocos[c] = lerColuna(dados, valores[c]);
+            }
+
+            List<String> times = lerTextos(dados);
+            List<String> ligas = lerTextos(dados);
+            List<String> estadios = lerTextos(dados);
+
+            CsvMapeado csv = CsvMapeado.abrir(csvFile, fimCabecalho, inicios, fins);
+            return new MatchTable(csv, blocos, times, ligas, estadios);
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Grava o snapshot da tabela ao lado do CSV de origem. O arquivo é escrito
+     * com outro nome e só então renomeado, para que uma gravação interrompida
+     * não deixe um snapshot pela metade.
+     *
+     * @param tabela  A tabela carregada do CSV.
+     * @param csvFile O arquivo CSV de origem.
+     */
+    public static void gravar(MatchTable tabela, String csvFile) throws IOException {
+        File fonte = new File(csvFile);
+        File snapshot = arquivo(csvFile);
+        File temporario = new File(snapshot.getPath() + ".tmp");
+        ColunaInt[] colunas = tabela.colunas();
+        CsvMapeado csv = tabela.csv();
+        int linhas = tabela.tamanho();
+
+        try (RandomAccessFile arquivo = new RandomAccessFile(temporario, "rw");
+                FileChannel canal = arquivo.getChannel()) {
+            arquivo.setLength(0);
+            Escritor out = new Escritor(canal);
+            out.putInt(MAGICO);
+            out.putInt(VERSAO);
+            out.putLong(fonte.length());
+            out.putLong(fonte.lastModified());
+            out.putInt(linhas);
+            out.putInt(colunas.length);
+            for (int c = 0; c < colunas.length; c++) {
+                out.putBytes(MatchTable.ESQUEMA[c].getBytes(StandardCharsets.UTF_8));
+                out.put(TIPO_INT);
+                out.putInt(colunas[c].tamanho());
+            }
+            out.alinhar();
+
+            out.putInt(csv.fimCabecalho());
+            for (int i = 0; i < linhas; i++) {
+                out.putInt(csv.inicio(i));
+            }
+            for (int i = 0; i < linhas; i++) {
+                out.putInt(csv.fim(i));
+            }
+            for (ColunaInt coluna : colunas) {
+                for (int i = 0; i < coluna.tamanho(); i++) {
+                    out.putInt(coluna.get(i));
+                }
+            }
+
+            Dicionario times = tabela.times();
+            out.putInt(times.tamanho());
+            for (int id = 0; id < times.tamanho(); id++) {
+                out.putBytes(times.texto(id).getBytes(StandardCharsets.UTF_8));
+            }
+            Dicionario ligas = tabela.ligas();
+            out.putInt(ligas.tamanho());
+            for (int id = 0; id < ligas.tamanho(); id++) {
+                out.putBytes(ligas.texto(id).getBytes(StandardCharsets.UTF_8));
+            }
+            DicionarioVenue venues = tabela.venues();
+            out.putInt(venues.tamanho());
+            for (int id = 0; id < venues.tamanho(); id++) {
+                out.putBytes(venues.nome(id).getBytes(StandardCharsets.UTF_8));
+            }
+            out.esvaziar();
+        }
+        Files.move(temporario.toPath(), snapshot.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * @return Uma coluna sobre os próximos {@code tamanho} inteiros do
+     *         arquivo mapeado, sem cópia; a posição avança até o fim dela.
+     */
+    private static ColunaInt lerColuna(ByteBuffer dados, int tamanho) {
+        ByteBuffer bloco = dados.duplicate();
+        bloco.limit(dados.position() + 4 * tamanho);
+        dados.position(bloco.limit());
+        return ColunaInt.sobre(bloco.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer());
+    }
+
+    private static List<String> lerTextos(ByteBuffer dados) {
+        int quantidade = dados.getInt();
+        List<String> textos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            byte[] bytes = new byte[dados.getInt()];
+            dados.get(bytes);
+            textos.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return textos;
+    }
+
+    /**
+     * Avança até a próxima posição múltipla de 4, onde começam os blocos de
+     * inteiros.
+     */
+    private static void alinhar(ByteBuffer dados) {
+        dados.position((dados.position() + 3) & ~3);
+    }
+
+    /**
+     * Grava valores little-endian em um canal, por meio de um buffer.
+     */
+    private static final class Escritor {
+
+        private final FileChannel canal;
+        private final ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+        private long escritos;
+
+        Escritor(FileChannel canal) {
+            this.canal = canal;
+        }
+
+        private void garantir(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                esvaziar();
+            }
+        }
+
+        void put(byte valor) throws IOException {
+            garantir(1);
+            buffer.put(valor);
+            escritos++;
+        }
+
+        void putInt(int valor) throws IOException {
+            garantir(4);
+            buffer.putInt(valor);
+            escritos += 4;
+        }
+
+        void putLong(long valor) throws IOException {
+            garantir(8);
+            buffer.putLong(valor);
+            escritos += 8;
+        }
+
+        /**
+         * Grava o tamanho e os bytes.
+         */
+        void putBytes(byte[] bytes) throws IOException {
+            putInt(bytes.length);
+            for (byte b : bytes) {
+                put(b);
+            }
+        }
+
+        void alinhar() throws IOException {
+            while ((escritos & 3) != 0) {
+                put((byte) 0);
+            }
+        }
+
+        void esvaziar() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
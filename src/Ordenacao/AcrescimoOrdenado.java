@@ -0,0 +1,77 @@
+package Ordenacao;
+
+import java.util.Arrays;
+
+import Dados.MatchStore;
+import Ordenacao.InsertionSortBinario.InsertionSortBinario;
+
+/**
+ * A classe {@code AcrescimoOrdenado} acrescenta partidas novas a um histórico
+ * já ordenado, sem ordená-lo de novo. O arquivo de entrada (no formato do T2)
+ * tem primeiro as linhas do histórico, já em ordem pela chave, e depois as
+ * partidas novas, em qualquer ordem; as novas são encaixadas no histórico com
+ * {@link InsertionSortBinario#inserirLote}, e cada linha do histórico muda de
+ * lugar no máximo uma vez. Partidas novas ficam depois das do histórico com a
+ * mesma chave.
+ * <p>
+ * Uso: {@code java Ordenacao.AcrescimoOrdenado <chave> <entrada> <linhasOrdenadas> <saida>}.
+ */
+public final class AcrescimoOrdenado {
+
+    private AcrescimoOrdenado() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 4) {
+            System.out.println("Uso: java Ordenacao.AcrescimoOrdenado <chave> <entrada> <linhasOrdenadas> <saida>");
+            return;
+        }
+        Chave chave = null;
+        for (Chave c : Chave.values()) {
+            if (c.coluna().equalsIgnoreCase(args[0]) || c.name().equalsIgnoreCase(args[0])) {
+                chave = c;
+            }
+        }
+        if (chave == null) {
+            throw new IllegalArgumentException("Chave desconhecida: " + args[0]);
+        }
+        MatchStore store = MatchStore.carregar(args[1]);
+        int ordenadas = Integer.parseInt(args[2]);
+        store.escrever(acrescentar(store, chave, ordenadas), args[3]);
+        System.out.println("Acréscimo concluído: " + (store.tamanho() - ordenadas) + " partida(s) nova(s) em "
+                + ordenadas + " ordenada(s), gravado em " + args[3]);
+    }
+
+    /**
+     * Encaixa as linhas {@code [ordenadas, n)} do store entre as linhas
+     * {@code [0, ordenadas)}, que já estão ordenadas pela chave.
+     *
+     * @param store     O store com as partidas.
+     * @param chave     A coluna pela qual o histórico está ordenado.
+     * @param ordenadas O número de linhas do histórico, no início do arquivo.
+     * @return A visão com todas as linhas, ordenada pela chave.
+     * @throws IllegalArgumentException Se {@code ordenadas} estiver fora do
+     *                                  arquivo ou se o histórico não estiver
+     *                                  ordenado.
+     */
+    public static int[] acrescentar(MatchStore store, Chave chave, int ordenadas) {
+        int n = store.tamanho();
+        if (ordenadas < 0 || ordenadas > n) {
+            throw new IllegalArgumentException("Linhas ordenadas fora do arquivo: " + ordenadas + " de " + n);
+        }
+        int[] linhas = store.visaoOriginal();
+        int[] chaves = chave.extrair(store, linhas);
+        for (int i = 1; i < ordenadas; i++) {
+            if (chaves[i] < chaves[i - 1]) {
+                throw new IllegalArgumentException("O histórico não está ordenado por " + chave.coluna()
+                        + " (linha " + (i + 1) + ")");
+            }
+        }
+
+        // As posições das novas viram o espaço livre para o lote
+        int[] novasChaves = Arrays.copyOfRange(chaves, ordenadas, n);
+        int[] novasLinhas = Arrays.copyOfRange(linhas, ordenadas, n);
+        InsertionSortBinario.inserirLote(chaves, linhas, ordenadas, novasChaves, novasLinhas);
+        return linhas;
+    }
+}
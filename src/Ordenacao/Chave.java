@@ -0,0 +1,60 @@
+package Ordenacao;
+
+import Dados.MatchStore;
+
+/**
+ * As colunas pelas quais as partidas podem ser ordenadas. Cada chave sabe
+ * extrair do {@link MatchStore} os seus valores inteiros para uma visão.
+ */
+public enum Chave {
+
+    VENUE("venue", "venues") {
+        @Override
+        public int[] extrair(MatchStore store, int[] visao) {
+            return store.chavesVenue(visao);
+        }
+    },
+    ATTENDANCE("attendance", "attendance") {
+        @Override
+        public int[] extrair(MatchStore store, int[] visao) {
+            return store.chavesAttendance(visao);
+        }
+    },
+    FULL_DATE("full_date", "full_date") {
+        @Override
+        public int[] extrair(MatchStore store, int[] visao) {
+            return store.chavesFullDate(visao);
+        }
+    };
+
+    private final String coluna;
+    private final String sufixoArquivo;
+
+    Chave(String coluna, String sufixoArquivo) {
+        this.coluna = coluna;
+        this.sufixoArquivo = sufixoArquivo;
+    }
+
+    /**
+     * @return O nome da coluna no arquivo CSV.
+     */
+    public String coluna() {
+        return coluna;
+    }
+
+    /**
+     * @return O trecho usado no nome dos arquivos de resultado.
+     */
+    public String sufixoArquivo() {
+        return sufixoArquivo;
+    }
+
+    /**
+     * Extrai as chaves de uma visão, na ordem da visão.
+     *
+     * @param store O store com as partidas.
+     * @param visao Os índices das linhas.
+     * @return Um array com a chave de cada linha da visão.
+     */
+    public abstract int[] extrair(MatchStore store, int[] visao);
+}
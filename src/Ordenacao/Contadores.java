@@ -0,0 +1,174 @@
+package Ordenacao;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contadores de operações dos algoritmos de ordenação: comparações de chaves,
+ * trocas, movimentos (escritas de um par fora de uma troca), extrações de
+ * chaves e pico de memória auxiliar.
+ * <p>
+ * A contagem é opcional e ligada pela propriedade de sistema
+ * {@code -Dordenacao.contadores=true}. Como {@link #ATIVO} é uma constante
+ * {@code static final}, com a contagem desligada o JIT elimina as chamadas e
+ * os algoritmos executam o mesmo código de antes.
+ * <p>
+ * Ordenações auxiliares que não fazem parte da execução medida (como a dos
+ * nomes de estádio em {@link Dados.DicionarioVenue#ranks()}, durante a carga)
+ * ficam entre {@link #suspender()} e {@link #retomar()} e não são contadas.
+ */
+public final class Contadores {
+
+    /** Se verdadeiro, as operações são contadas. */
+    public static final boolean ATIVO = Boolean.getBoolean("ordenacao.contadores");
+
+    private static final AtomicLong comparacoes = new AtomicLong();
+    private static final AtomicLong trocas = new AtomicLong();
+    private static final AtomicLong movimentos = new AtomicLong();
+    private static final AtomicLong extracoes = new AtomicLong();
+    private static final AtomicLong auxiliarAtual = new AtomicLong();
+    private static final AtomicLong auxiliarPico = new AtomicLong();
+    /** Quantas suspensões estão abertas na thread atual. */
+    private static final ThreadLocal<int[]> SUSPENSOES = ThreadLocal.withInitial(() -> new int[1]);
+
+    private Contadores() {
+    }
+
+    /**
+     * Conta uma comparação de chaves e devolve o seu resultado, para ser usado
+     * diretamente na condição: {@code if (Contadores.comparou(a < b))}.
+     *
+     * @param resultado O resultado da comparação.
+     * @return O próprio {@code resultado}.
+     */
+    public static boolean comparou(boolean resultado) {
+        if (contando()) {
+            comparacoes.incrementAndGet();
+        }
+        return resultado;
+    }
+
+    /**
+     * Conta uma troca de duas posições.
+     */
+    public static void troca() {
+        if (contando()) {
+            trocas.incrementAndGet();
+        }
+    }
+
+    /**
+     * Conta a escrita de um par (chave, linha) fora de uma troca.
+     */
+    public static void movimento() {
+        if (contando()) {
+            movimentos.incrementAndGet();
+        }
+    }
+
+    /**
+     * Conta a escrita de vários pares de uma vez (uma cópia em bloco).
+     *
+     * @param quantidade O número de pares escritos.
+     */
+    public static void movimento(int quantidade) {
+        if (contando()) {
+            movimentos.addAndGet(quantidade);
+        }
+    }
+
+    /**
+     * Conta a extração de chaves do store.
+     *
+     * @param quantidade O número de chaves extraídas.
+     */
+    public static void extracao(int quantidade) {
+        if (contando()) {
+            extracoes.addAndGet(quantidade);
+        }
+    }
+
+    /**
+     * Registra a alocação de memória auxiliar pelo algoritmo.
+     *
+     * @param bytes O tamanho alocado, em bytes.
+     */
+    public static void alocou(long bytes) {
+        if (contando()) {
+            long atual = auxiliarAtual.addAndGet(bytes);
+            auxiliarPico.accumulateAndGet(atual, Math::max);
+        }
+    }
+
+    /**
+     * Registra a liberação de memória auxiliar alocada em {@link #alocou(long)}.
+     *
+     * @param bytes O tamanho liberado, em bytes.
+     */
+    public static void liberou(long bytes) {
+        if (contando()) {
+            auxiliarAtual.addAndGet(-bytes);
+        }
+    }
+
+    /**
+     * Suspende a contagem na thread atual até a chamada correspondente a
+     * {@link #retomar()}. As suspensões podem ser aninhadas.
+     */
+    public static void suspender() {
+        if (ATIVO) {
+            SUSPENSOES.get()[0]++;
+        }
+    }
+
+    /**
+     * Retoma a contagem suspensa por {@link #suspender()}.
+     */
+    public static void retomar() {
+        if (ATIVO) {
+            SUSPENSOES.get()[0]--;
+        }
+    }
+
+    private static boolean contando() {
+        return ATIVO && SUSPENSOES.get()[0] == 0;
+    }
+
+    /**
+     * Zera todos os contadores.
+     */
+    public static void zerar() {
+        comparacoes.set(0);
+        trocas.set(0);
+        movimentos.set(0);
+        extracoes.set(0);
+        auxiliarAtual.set(0);
+        auxiliarPico.set(0);
+    }
+
+    /**
+     * @return Os valores atuais dos contadores.
+     */
+    public static Medicao medir() {
+        return new Medicao(comparacoes.get(), trocas.get(), movimentos.get(), extracoes.get(), auxiliarPico.get());
+    }
+
+    /**
+     * Os valores dos contadores em um instante.
+     */
+    public static final class Medicao {
+
+        public final long comparacoes;
+        public final long trocas;
+        public final long movimentos;
+        public final long extracoes;
+        public final long picoAuxiliarBytes;
+
+        Medicao(long comparacoes, long trocas, long movimentos, long extracoes, long picoAuxiliarBytes) {
+            this.comparacoes = comparacoes;
+            this.trocas = trocas;
+            this.movimentos = movimentos;
+            this.extracoes = extracoes;
+            this.picoAuxiliarBytes = picoAuxiliarBytes;
+        }
+    }
+}
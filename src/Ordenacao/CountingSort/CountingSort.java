@@ -0,0 +1,85 @@
+package Ordenacao.CountingSort;
+
+import Ordenacao.Contadores;
+import Ordenacao.Sorter;
+
+/**
+ * A classe {@code CountingSort} implementa o algoritmo de ordenação Counting
+ * Sort sobre pares (chave, linha). O array de contagem cobre o intervalo entre
+ * a menor e a maior chave; para venue as chaves já são as posições do
+ * {@link Dados.DicionarioVenue}, então há uma entrada por estádio distinto.
+ * <p>
+ * A chave {@code Integer.MIN_VALUE} (a de {@link Dados.DatasEpoch#DATA_INVALIDA})
+ * tem uma posição própria no início do array de contagem e não entra no
+ * intervalo; senão uma única data inválida faria o array cobrir quase todos
+ * os inteiros.
+ */
+public class CountingSort implements Sorter {
+
+    @Override
+    public String nome() {
+        return "CountingSort";
+    }
+
+    /**
+     * Realiza a ordenação usando o algoritmo Counting Sort.
+     *
+     * @param chaves As chaves de ordenação, na mesma ordem de {@code linhas}.
+     * @param linhas A visão com os índices das linhas a serem ordenadas.
+     */
+    @Override
+    public void ordenar(int[] chaves, int[] linhas) {
+        int n = linhas.length;
+        if (n == 0) {
+            return;
+        }
+
+        int maxValue = Integer.MIN_VALUE;
+        int minValue = Integer.MAX_VALUE;
+        for (int value : chaves) {
+            if (value == Integer.MIN_VALUE) {
+                continue;
+            }
+            if (value > maxValue) {
+                maxValue = value;
+            }
+            if (value < minValue) {
+                minValue = value;
+            }
+        }
+        if (minValue > maxValue) {
+            // Só há chaves Integer.MIN_VALUE
+            minValue = maxValue = 0;
+        }
+
+        // Contagem das frequências; a posição 0 é a de Integer.MIN_VALUE
+        int[] count = new int[maxValue - minValue + 2];
+        long auxiliar = 4L * count.length + 8L * n;
+        Contadores.alocou(auxiliar);
+        for (int value : chaves) {
+            count[indice(value, minValue)]++;
+        }
+
+        // Acumulando as contagens
+        for (int i = 1; i < count.length; i++) {
+            count[i] += count[i - 1];
+        }
+
+        int[] sortedChaves = new int[n];
+        int[] sortedLinhas = new int[n];
+        for (int i = n - 1; i >= 0; i--) {
+            int posicao = --count[indice(chaves[i], minValue)];
+            Contadores.movimento();
+            sortedChaves[posicao] = chaves[i];
+            sortedLinhas[posicao] = linhas[i];
+        }
+
+        System.arraycopy(sortedChaves, 0, chaves, 0, n);
+        System.arraycopy(sortedLinhas, 0, linhas, 0, n);
+        Contadores.liberou(auxiliar);
+    }
+
+    private static int indice(int value, int minValue) {
+        return value == Integer.MIN_VALUE ? 0 : value - minValue + 1;
+    }
+}
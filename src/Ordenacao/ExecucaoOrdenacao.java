@@ -0,0 +1,251 @@
+package Ordenacao;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import Dados.MatchStore;
+
+/**
+ * A classe {@code ExecucaoOrdenacao} executa um {@link Sorter} sobre uma
+ * {@link Chave} das partidas de um arquivo T2.
+ * Ela cria os três casos de ordenação (melhor, médio e pior), escreve cada
+ * caso em {@code src/OrdenacaoResultados/<algoritmo>/} e registra o
+ * {@link PerfilExecucao} (tempo, alocação e coletas de lixo) da ordenação de
+ * cada um. Com {@code -Dordenacao.contadores=true}, também grava ao lado
+ * dos arquivos ordenados um relatório ({@code _contadores.csv} e
+ * {@code _contadores.json}) com as operações contadas pelos
+ * {@link Contadores} em cada caso.
+ * <p>
+ * {@link #executarEmParalelo} ordena a mesma entrada por várias chaves ao
+ * mesmo tempo, uma thread por chave. Todas compartilham o mesmo
+ * {@link MatchStore}, carregado uma única vez: cada execução só cria as suas
+ * visões e as suas chaves, e nenhuma linha é copiada.
+ */
+public class ExecucaoOrdenacao {
+
+    private static final String PASTA_RESULTADOS = "src/OrdenacaoResultados/";
+
+    private final String inputFile;
+    private final Sorter sorter;
+    private final Chave chave;
+    private final String outputMedio;
+    private final String outputMelhor;
+    private final String outputPior;
+    private final String outputContadores;
+    private final Map<String, PerfilExecucao> perfis = new LinkedHashMap<>();
+    private final Map<String, Contadores.Medicao> contagens = new LinkedHashMap<>();
+    private MatchStore store;
+    private PrintStream saida = System.out;
+
+    /**
+     * @param inputFile O arquivo de entrada (T2) a ser ordenado.
+     * @param sorter    O algoritmo de ordenação.
+     * @param chave     A coluna usada como chave de ordenação.
+     */
+    public ExecucaoOrdenacao(String inputFile, Sorter sorter, Chave chave) {
+        this.inputFile = inputFile;
+        this.sorter = sorter;
+        this.chave = chave;
+
+        String nome = sorter.nome();
+        String prefixo = PASTA_RESULTADOS + nome + "/matches_t2_" + chave.sufixoArquivo() + "_"
+                + Character.toLowerCase(nome.charAt(0)) + nome.substring(1);
+        outputMedio = prefixo + "_medioCaso.csv";
+        outputMelhor = prefixo + "_melhorCaso.csv";
+        outputPior = prefixo + "_piorCaso.csv";
+        outputContadores = prefixo + "_contadores";
+    }
+
+    /**
+     * Realiza a ordenação dos dados nos casos de melhor, médio e pior e imprime os
+     * tempos de execução. O arquivo de entrada é lido uma única vez, por meio do
+     * {@link MatchStore}, e cada caso é uma visão sobre as mesmas linhas.
+     */
+    public void executar() {
+        store = MatchStore.carregar(inputFile);
+        new File(outputMedio).getParentFile().mkdirs();
+
+        int[] melhor = criarCasoMelhor();
+        int[] medio = criarCasoMedio();
+        int[] pior = criarCasoPior();
+
+        saida.println("Ordenando utilizando o algoritmo " + sorter.nome() + "...");
+
+        ordenarEImprimirTempo(melhor, outputMelhor);
+        ordenarEImprimirTempo(medio, outputMedio);
+        ordenarEImprimirTempo(pior, outputPior);
+
+        if (Contadores.ATIVO) {
+            escreverContadores();
+        }
+
+        saida.println("\nOrdenação concluída com sucesso!");
+    }
+
+    /**
+     * Ordena a entrada por cada uma das chaves com o mesmo algoritmo, cada
+     * chave em uma thread. As mensagens de cada execução são impressas juntas,
+     * na ordem das chaves, quando todas terminam.
+     * <p>
+     * Os {@link Contadores} são globais; quando estão ativos, as chaves são
+     * ordenadas uma de cada vez para que cada relatório conte só a sua chave.
+     * Os tempos de cada caso são medidos com as outras chaves ordenando ao
+     * mesmo tempo, e as coletas de lixo do perfil são as da JVM inteira. Como
+     * os perfis são {@link PerfilExecucao#concorrente() concorrentes}, o pico
+     * de uso do heap não é medido e os bytes alocados são só os da thread da
+     * chave.
+     *
+     * @param inputFile O arquivo de entrada (T2) a ser ordenado.
+     * @param sorter    O algoritmo de ordenação.
+     * @param chaves    As colunas usadas como chave de ordenação.
+     * @return As execuções, na ordem das chaves.
+     */
+    public static List<ExecucaoOrdenacao> executarEmParalelo(String inputFile, Sorter sorter, Chave... chaves)
+            throws InterruptedException {
+        MatchStore.carregar(inputFile);
+
+        List<ExecucaoOrdenacao> execucoes = new ArrayList<>();
+        List<ByteArrayOutputStream> mensagens = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (Chave chave : chaves) {
+            ExecucaoOrdenacao execucao = new ExecucaoOrdenacao(inputFile, sorter, chave);
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            execucao.saida = new PrintStream(buffer, true);
+            execucoes.add(execucao);
+            mensagens.add(buffer);
+            threads.add(new Thread(execucao::executar, "ordenacao-" + chave.coluna()));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+            if (Contadores.ATIVO) {
+                thread.join();
+            }
+        }
+        for (int i = 0; i < threads.size(); i++) {
+            threads.get(i).join();
+            System.out.print(mensagens.get(i).toString());
+        }
+        return execucoes;
+    }
+
+    /**
+     * Cria o caso de ordenação médio, que mantém a ordem original do arquivo de
+     * entrada, e o escreve no arquivo de saída.
+     *
+     * @return A visão do caso médio.
+     */
+    private int[] criarCasoMedio() {
+        int[] linhas = store.visaoOriginal();
+        store.escrever(linhas, outputMedio);
+        return linhas;
+    }
+
+    /**
+     * Cria o caso de ordenação melhor, com as linhas já ordenadas de forma
+     * crescente, e o escreve no arquivo de saída.
+     *
+     * @return A visão do caso melhor.
+     */
+    private int[] criarCasoMelhor() {
+        int[] linhas = store.visaoOriginal();
+        sorter.ordenar(chave.extrair(store, linhas), linhas);
+        store.escrever(linhas, outputMelhor);
+        return linhas;
+    }
+
+    /**
+     * Cria o caso de ordenação pior, com as linhas ordenadas e depois
+     * invertidas, e o escreve no arquivo de saída.
+     *
+     * @return A visão do caso pior.
+     */
+    private int[] criarCasoPior() {
+        int[] linhas = store.visaoOriginal();
+        sorter.ordenar(chave.extrair(store, linhas), linhas);
+        MatchStore.inverter(linhas);
+        store.escrever(linhas, outputPior);
+        return linhas;
+    }
+
+    /**
+     * @return O perfil da ordenação de cada caso, indexado pelo arquivo do
+     *         caso, na ordem em que foram executados.
+     */
+    public Map<String, PerfilExecucao> perfis() {
+        return Collections.unmodifiableMap(perfis);
+    }
+
+    /**
+     * Ordena uma cópia da visão de um caso e imprime o tempo de execução e o
+     * perfil de memória da ordenação.
+     *
+     * @param caso        A visão do caso a ser ordenado.
+     * @param fileToOrder O arquivo correspondente ao caso, usado na mensagem.
+     */
+    private void ordenarEImprimirTempo(int[] caso, String fileToOrder) {
+        int[] linhas = caso.clone();
+        if (Contadores.ATIVO) {
+            Contadores.zerar();
+        }
+        int[] chaves = chave.extrair(store, linhas);
+        Contadores.extracao(chaves.length);
+
+        PerfilExecucao perfil = PerfilExecucao.iniciar();
+        sorter.ordenar(chaves, linhas);
+        perfil.finalizar();
+        perfis.put(fileToOrder, perfil);
+        if (Contadores.ATIVO) {
+            contagens.put(fileToOrder, Contadores.medir());
+        }
+
+        saida.println("Tempo de execução para " + fileToOrder + ": " + perfil.tempoMs() + " ms");
+        saida.println(perfil);
+    }
+
+    /**
+     * Escreve as operações contadas em cada caso em CSV e em JSON, ao lado dos
+     * arquivos ordenados.
+     */
+    private void escreverContadores() {
+        try (BufferedWriter csv = new BufferedWriter(new FileWriter(outputContadores + ".csv"));
+                BufferedWriter json = new BufferedWriter(new FileWriter(outputContadores + ".json"))) {
+            csv.write("algoritmo,chave,caso,tamanho,comparacoes,trocas,movimentos,extracoes,pico_auxiliar_bytes");
+            csv.newLine();
+            json.write("[");
+            boolean primeiro = true;
+            for (Map.Entry<String, Contadores.Medicao> entrada : contagens.entrySet()) {
+                String arquivo = entrada.getKey();
+                String caso = arquivo.substring(arquivo.lastIndexOf('_') + 1, arquivo.length() - ".csv".length());
+                Contadores.Medicao m = entrada.getValue();
+
+                csv.write(sorter.nome() + "," + chave.coluna() + "," + caso + "," + store.tamanho() + ","
+                        + m.comparacoes + "," + m.trocas + "," + m.movimentos + "," + m.extracoes + ","
+                        + m.picoAuxiliarBytes);
+                csv.newLine();
+
+                json.write(primeiro ? "\n" : ",\n");
+                json.write("  {\"algoritmo\": \"" + sorter.nome() + "\", \"chave\": \"" + chave.coluna()
+                        + "\", \"caso\": \"" + caso + "\", \"tamanho\": " + store.tamanho()
+                        + ", \"comparacoes\": " + m.comparacoes + ", \"trocas\": " + m.trocas
+                        + ", \"movimentos\": " + m.movimentos + ", \"extracoes\": " + m.extracoes
+                        + ", \"picoAuxiliarBytes\": " + m.picoAuxiliarBytes + "}");
+                primeiro = false;
+            }
+            json.write("\n]");
+            json.newLine();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        saida.println("Contadores de operações gravados em " + outputContadores + ".csv e .json");
+    }
+}
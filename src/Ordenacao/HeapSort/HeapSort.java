@@ -0,0 +1,103 @@
+package Ordenacao.HeapSort;
+
+import Ordenacao.Contadores;
+import Ordenacao.Sorter;
+
+/**
+ * A classe {@code HeapSort} implementa o algoritmo de ordenação Heap Sort
+ * sobre pares (chave, linha).
+ */
+public class HeapSort implements Sorter {
+
+    @Override
+    public String nome() {
+        return "HeapSort";
+    }
+
+    /**
+     * Realiza a ordenação usando o algoritmo Heap Sort.
+     *
+     * @param chaves As chaves de ordenação, na mesma ordem de {@code linhas}.
+     * @param linhas A visão com os índices das linhas a serem ordenadas.
+     */
+    @Override
+    public void ordenar(int[] chaves, int[] linhas) {
+        ordenar(chaves, linhas, 0, linhas.length);
+    }
+
+    /**
+     * Ordena apenas o intervalo {@code [inicio, fim)} com o Heap Sort. O heap
+     * é montado dentro do próprio intervalo, sem memória auxiliar; é o
+     * recurso do {@link Ordenacao.IntroSort.IntroSort} quando a recursão do
+     * Quick Sort fica profunda demais.
+     *
+     * @param chaves As chaves de ordenação, na mesma ordem de {@code linhas}.
+     * @param linhas A visão com os índices das linhas a serem ordenadas.
+     * @param inicio O primeiro índice do intervalo.
+     * @param fim    O índice seguinte ao último do intervalo.
+     */
+    public static void ordenar(int[] chaves, int[] linhas, int inicio, int fim) {
+        int n = fim - inicio;
+
+        // Constrói o heap máximo
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(chaves, linhas, inicio, n, i);
+        }
+
+        // Extrai elementos do heap um por um
+        for (int i = n - 1; i > 0; i--) {
+            // Move a raiz atual para o final
+            swap(chaves, linhas, inicio, inicio + i);
+
+            // Chama heapify no heap reduzido
+            heapify(chaves, linhas, inicio, i, 0);
+        }
+    }
+
+    /**
+     * Função para construir e manter um heap máximo.
+     *
+     * @param chaves As chaves de ordenação, na mesma ordem de {@code linhas}.
+     * @param linhas A visão com os índices das linhas a serem ordenadas.
+     * @param base   O índice onde o heap começa.
+     * @param n      O tamanho do heap.
+     * @param i      O índice da raiz do heap, relativo a {@code base}.
+     */
+    private static void heapify(int[] chaves, int[] linhas, int base, int n, int i) {
+        int largest = i;
+        int left = 2 * i + 1;
+        int right = 2 * i + 2;
+
+        if (left < n && Contadores.comparou(chaves[base + left] > chaves[base + largest])) {
+            largest = left;
+        }
+
+        if (right < n && Contadores.comparou(chaves[base + right] > chaves[base + largest])) {
+            largest = right;
+        }
+
+        if (largest != i) {
+            swap(chaves, linhas, base + i, base + largest);
+            heapify(chaves, linhas, base, n, largest);
+        }
+    }
+
+    /**
+     * Troca duas posições das chaves e da visão.
+     *
+     * @param chaves As chaves de ordenação.
+     * @param linhas A visão com os índices das linhas.
+     * @param i      O índice da primeira posição.
+     * @param j      O índice da segunda posição.
+     */
+    private static void swap(int[] chaves, int[] linhas, int i, int j) {
+        Contadores.troca();
+        int temp = chaves[i];
+        chaves[i] = chaves[j];
+        chaves[j] = temp;
+
+        temp = linhas[i];
+        linhas[i] = linhas[j];
+        linhas[j] = temp;
+    }
+}
@@ -0,0 +1,57 @@
+package Ordenacao.InsertionSort;
+
+import Ordenacao.Contadores;
+import Ordenacao.Sorter;
+
+/**
+ * A classe {@code InsertionSort} implementa o algoritmo de ordenação
+ * Insertion Sort sobre pares (chave, linha), na forma clássica: cada elemento
+ * é levado para trás uma posição por vez. A versão com busca binária e
+ * deslocamento em bloco é o
+ * {@link Ordenacao.InsertionSortBinario.InsertionSortBinario}.
+ */
+public class InsertionSort implements Sorter {
+
+    @Override
+    public String nome() {
+        return "InsertionSort";
+    }
+
+    /**
+     * Realiza a ordenação usando o algoritmo Insertion Sort.
+     *
+     * @param chaves As chaves de ordenação, na mesma ordem de {@code linhas}.
+     * @param linhas A visão com os índices das linhas a serem ordenadas.
+     */
+    @Override
+    public void ordenar(int[] chaves, int[] linhas) {
+        ordenar(chaves, linhas, 0, linhas.length);
+    }
+
+    /**
+     * Ordena por inserção o intervalo {@code [inicio, fim)}. É o corte para
+     * intervalos pequenos dos Quick Sorts.
+     *
+     * @param chaves As chaves de ordenação, na mesma ordem de {@code linhas}.
+     * @param linhas A visão com os índices das linhas a serem ordenadas.
+     * @param inicio O primeiro índice do intervalo.
+     * @param fim    O índice seguinte ao último do intervalo.
+     */
+    public static void ordenar(int[] chaves, int[] linhas, int inicio, int fim) {
+        for (int i = inicio + 1; i < fim; ++i) {
+            int key = chaves[i];
+            int linha = linhas[i];
+            int j = i - 1;
+
+            while (j >= inicio && Contadores.comparou(chaves[j] > key)) {
+                Contadores.movimento();
+                chaves[j + 1] = chaves[j];
+                linhas[j + 1] = linhas[j];
+                j = j - 1;
+            }
+            Contadores.movimento();
+            chaves[j + 1] = key;
+            linhas[j + 1] = linha;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package Ordenacao.InsertionSortBinario;
+
+import Ordenacao.Contadores;
+import Ordenacao.Sorter;
+
+/**
+ * A classe {@code InsertionSortBinario} implementa o Insertion Sort com busca
+ * binária e deslocamento em bloco sobre pares (chave, linha), pensado para
+ * entradas quase ordenadas, como um histórico ordenado com algumas partidas
+ * novas no fim. O Insertion Sort clássico continua em
+ * {@link Ordenacao.InsertionSort.InsertionSort}.
+ * <p>
+ * A posição de cada elemento é encontrada por busca binária na parte já
+ * ordenada, e os elementos maiores são deslocados em bloco com
+ * {@link System#arraycopy}. Um elemento que já é maior ou igual ao anterior
+ * custa uma única comparação, então uma entrada já ordenada (ou ordenada com
+ * poucos elementos novos no fim) é processada em tempo quase linear.
+ * <p>
+ * Para acrescentar linhas novas a uma visão que já está ordenada, use
+ * {@link #inserirLote}: cada linha existente é deslocada no máximo uma vez.
+ * O {@link Ordenacao.AcrescimoOrdenado} usa esse caminho para acrescentar
+ * partidas novas a um arquivo já ordenado.
+ */
+public class InsertionSortBinario implements Sorter {
+
+    @Override
+    public String nome() {
+        return "InsertionSortBinario";
+    }
+
+    /**
+     * Realiza a ordenação por inserção binária.
+     *
+     * @param chaves As chaves de ordenação, na mesma ordem de {@code linhas}.
+     * @param linhas A visão com os índices das linhas a serem ordenadas.
+     */
+    @Override
+    public void ordenar(int[] chaves, int[] linhas) {
+        ordenar(chaves, linhas, 0, linhas.length);
+    }
+
+    /**
+     * Ordena por inserção binária o intervalo {@code [inicio, fim)}. Cada
+     * elemento é inserido depois das chaves iguais a ele, o que mantém a
+     * ordenação estável.
+     *
+     * @param chaves As chaves de ordenação, na mesma ordem de {@code linhas}.
+     * @param linhas A visão com os índices das linhas a serem ordenadas.
+     * @param inicio O primeiro índice do intervalo.
+     * @param fim    O índice seguinte ao último do intervalo.
+     */
+    public static void ordenar(int[] chaves, int[] linhas, int inicio, int fim) {
+        ordenar(chaves, linhas, inicio, inicio + 1, fim);
+    }
+
+    /**
+     * Ordena por inserção binária o intervalo {@code [inicio, fim)}, sabendo
+     * que {@code [inicio, ordenadoAte)} já está ordenado (como uma run do
+     * {@link Ordenacao.TimSort.TimSort}).
+     *
+     * @param chaves      As chaves de ordenação, na mesma ordem de
+     *                    {@code linhas}.
+     * @param linhas      A visão com os índices das linhas a serem ordenadas.
+     * @param inicio      O primeiro índice do intervalo.
+     * @param ordenadoAte O índice seguinte ao fim do trecho já ordenado, maior
+     *                    que {@code inicio}.
+     * @param fim         O índice seguinte ao último do intervalo.
+     */
+    public static void ordenar(int[] chaves, int[] linhas, int inicio, int ordenadoAte, int fim) {
+        for (int i = ordenadoAte; i < fim; ++i) {
+            int key = chaves[i];
+            if (Contadores.comparou(key >= chaves[i - 1])) {
+                continue;
+            }
+            int linha = linhas[i];
+            int posicao = posicaoApos(chaves, inicio, i - 1, key);
+
+            int deslocados = i - posicao;
+            Contadores.movimento(deslocados + 1);
+            System.arraycopy(chaves, posicao, chaves, posicao + 1, deslocados);
+            System.arraycopy(linhas, posicao, linhas, posicao + 1, deslocados);
+            chaves[posicao] = key;
+            linhas[posicao] = linha;
+        }
+    }
+
+    /**
+     * Insere um lote de pares novos em uma visão já ordenada. O lote é
+     * ordenado (por inserção) e intercalado de trás para frente: para cada
+     * par novo, a posição é achada por busca binária e o bloco de pares
+     * existentes maiores que ele é deslocado de uma vez, então cada par
+     * existente muda de lugar no máximo uma vez. Os pares novos ficam depois
+     * dos existentes de chave igual, e na ordem do lote entre si.
+     *
+     * @param chaves      As chaves ordenadas em {@code [0, tamanho)}, com
+     *                    espaço para mais {@code novasChaves.length}.
+     * @param linhas      A visão correspondente, com o mesmo espaço livre.
+     * @param tamanho     O número de pares já ordenados.
+     * @param novasChaves As chaves dos pares novos, em qualquer ordem; o array
+     *                    é ordenado junto com {@code novasLinhas}.
+     * @param novasLinhas Os índices das linhas novas.
+     * @return O novo número de pares ordenados.
+     * @throws IllegalArgumentException Se os arrays não tiverem espaço para o
+     *                                  lote.
+     */
+    public static int inserirLote(int[] chaves, int[] linhas, int tamanho, int[] novasChaves, int[] novasLinhas) {
+        int lote = novasChaves.length;
+        if (chaves.length < tamanho + lote || linhas.length < tamanho + lote || novasLinhas.length != lote) {
+            throw new IllegalArgumentException("Sem espaço para inserir " + lote + " linhas em " + tamanho);
+        }
+        ordenar(novasChaves, novasLinhas, 0, lote);
+
+        int fim = tamanho;
+        int destino = tamanho + lote;
+        for (int j = lote - 1; j >= 0; j--) {
+            int key = novasChaves[j];
+            int posicao = fim == 0 || Contadores.comparou(key >= chaves[fim - 1]) ? fim
+                    : posicaoApos(chaves, 0, fim - 1, key);
+
+            int bloco = fim - posicao;
+            destino -= bloco;
+            Contadores.movimento(bloco + 1);
+            System.arraycopy(chaves, posicao, chaves, destino, bloco);
+            System.arraycopy(linhas, posicao, linhas, destino, bloco);
+            destino--;
+            chaves[destino] = key;
+            linhas[destino] = novasLinhas[j];
+            fim = posicao;
+        }
+        return tamanho + lote;
+    }
+
+    /**
+     * Busca binária em {@code chaves[inicio, fim)}, já ordenado.
+     *
+     * @return A primeira posição cuja chave é maior que {@code key}.
+     */
+    private static int posicaoApos(int[] chaves, int inicio, int fim, int key) {
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (Contadores.comparou(key < chaves[meio])) {
+                fim = meio;
+            } else {
+                inicio = meio + 1;
+            }
+        }
+        return inicio;
+    }
+}
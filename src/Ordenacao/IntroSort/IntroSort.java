@@ -0,0 +1,68 @@
+package Ordenacao.IntroSort;
+
+import Ordenacao.Sorter;
+import Ordenacao.HeapSort.HeapSort;
+import Ordenacao.InsertionSort.InsertionSort;
+import Ordenacao.QuickSortParalelo.QuickSortParalelo;
+
+/**
+ * A classe {@code IntroSort} implementa o Introsort sobre pares (chave,
+ * linha): um Quick Sort com pivô mediana de 3 que garante O(n log n) no pior
+ * caso.
+ * <ul>
+ * <li>A profundidade da recursão é limitada a 2·⌊log₂ n⌋; um intervalo que
+ * passa desse limite (entrada adversária para a mediana de 3) é ordenado com o
+ * {@link HeapSort}.</li>
+ * <li>A partição é a de Hoare do {@link QuickSortParalelo}, em que os dois
+ * índices param em chaves iguais ao pivô, então muitas chaves repetidas
+ * continuam gerando partições equilibradas.</li>
+ * <li>Intervalos com até {@value #LIMITE_INSERCAO} elementos são ordenados pelo
+ * {@link InsertionSort}.</li>
+ * <li>A recursão é feita só no menor lado de cada partição e o maior continua
+ * no laço, então a pilha tem no máximo log₂ n chamadas.</li>
+ * </ul>
+ */
+public class IntroSort implements Sorter {
+
+    private static final int LIMITE_INSERCAO = 16;
+
+    @Override
+    public String nome() {
+        return "IntroSort";
+    }
+
+    @Override
+    public void ordenar(int[] chaves, int[] linhas) {
+        int n = linhas.length;
+        if (n < 2) {
+            return;
+        }
+        introSort(chaves, linhas, 0, n - 1, 2 * (31 - Integer.numberOfLeadingZeros(n)));
+    }
+
+    /**
+     * Ordena o intervalo {@code [low, high]}.
+     *
+     * @param profundidade Quantas partições ainda podem ser feitas antes de
+     *                     recorrer ao Heap Sort.
+     */
+    private static void introSort(int[] chaves, int[] linhas, int low, int high, int profundidade) {
+        while (high - low + 1 > LIMITE_INSERCAO) {
+            if (profundidade == 0) {
+                HeapSort.ordenar(chaves, linhas, low, high + 1);
+                return;
+            }
+            profundidade--;
+
+            int j = QuickSortParalelo.partition(chaves, linhas, low, high);
+            if (j - low < high - j) {
+                introSort(chaves, linhas, low, j, profundidade);
+                low = j + 1;
+            } else {
+                introSort(chaves, linhas, j + 1, high, profundidade);
+                high = j;
+            }
+        }
+        InsertionSort.ordenar(chaves, linhas, low, high + 1);
+    }
+}
@@ -0,0 +1,83 @@
+package Ordenacao.MergeSort;
+
+import java.util.Arrays;
+
+import Ordenacao.Contadores;
+import Ordenacao.Sorter;
+
+/**
+ * A classe {@code MergeSort} implementa o algoritmo de ordenação Merge Sort
+ * recursivo sobre pares (chave, linha).
+ */
+public class MergeSort implements Sorter {
+
+    @Override
+    public String nome() {
+        return "MergeSort";
+    }
+
+    @Override
+    public void ordenar(int[] chaves, int[] linhas) {
+        mergeSort(chaves, linhas, 0, linhas.length - 1);
+    }
+
+    /**
+     * Realiza a ordenação usando o algoritmo Merge Sort.
+     *
+     * @param chaves As chaves de ordenação, na mesma ordem de {@code linhas}.
+     * @param linhas A visão com os índices das linhas a serem ordenadas.
+     * @param left   O índice do elemento mais à esquerda.
+     * @param right  O índice do elemento mais à direita.
+     */
+    private void mergeSort(int[] chaves, int[] linhas, int left, int right) {
+        if (left < right) {
+            int mid = left + (right - left) / 2;
+            mergeSort(chaves, linhas, left, mid);
+            mergeSort(chaves, linhas, mid + 1, right);
+            merge(chaves, linhas, left, mid, right);
+        }
+    }
+
+    /**
+     * Combina duas metades ordenadas das chaves e da visão.
+     *
+     * @param chaves As chaves de ordenação, na mesma ordem de {@code linhas}.
+     * @param linhas A visão com os índices das linhas a serem ordenadas.
+     * @param left   O índice inicial da primeira metade.
+     * @param mid    O índice final da primeira metade.
+     * @param right  O índice final da segunda metade.
+     */
+    private void merge(int[] chaves, int[] linhas, int left, int mid, int right) {
+        int[] leftChaves = Arrays.copyOfRange(chaves, left, mid + 1);
+        int[] leftLinhas = Arrays.copyOfRange(linhas, left, mid + 1);
+        int[] rightChaves = Arrays.copyOfRange(chaves, mid + 1, right + 1);
+        int[] rightLinhas = Arrays.copyOfRange(linhas, mid + 1, right + 1);
+        long auxiliar = 8L * (right - left + 1);
+        Contadores.alocou(auxiliar);
+
+        int i = 0, j = 0, k = left;
+        while (i < leftChaves.length && j < rightChaves.length) {
+            Contadores.movimento();
+            if (Contadores.comparou(leftChaves[i] <= rightChaves[j])) {
+                chaves[k] = leftChaves[i];
+                linhas[k++] = leftLinhas[i++];
+            } else {
+                chaves[k] = rightChaves[j];
+                linhas[k++] = rightLinhas[j++];
+            }
+        }
+
+        while (i < leftChaves.length) {
+            Contadores.movimento();
+            chaves[k] = leftChaves[i];
+            linhas[k++] = leftLinhas[i++];
+        }
+
+        while (j < rightChaves.length) {
+            Contadores.movimento();
+            chaves[k] = rightChaves[j];
+            linhas[k++] = rightLinhas[j++];
+        }
+        Contadores.liberou(auxiliar);
+    }
+}
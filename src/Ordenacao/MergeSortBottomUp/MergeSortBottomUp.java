@@ -0,0 +1,114 @@
+package Ordenacao.MergeSortBottomUp;
+
+import Ordenacao.Contadores;
+import Ordenacao.Sorter;
+import Ordenacao.InsertionSortBinario.InsertionSortBinario;
+
+/**
+ * A classe {@code MergeSortBottomUp} implementa o Merge Sort sobre pares
+ * (chave, linha) de forma iterativa (bottom-up). O Merge Sort recursivo
+ * continua em {@link Ordenacao.MergeSort.MergeSort}.
+ * <p>
+ * Blocos de {@value #BLOCO_INICIAL} elementos são ordenados pelo
+ * {@link InsertionSortBinario}, e cada passagem intercala pares de blocos
+ * vizinhos, dobrando o tamanho dos blocos. Um único buffer auxiliar, do tamanho da entrada, é alocado por
+ * ordenação: as passagens alternam origem e destino entre as chaves e o
+ * buffer, sem nenhuma outra alocação. Quando o último elemento de um bloco é
+ * menor ou igual ao primeiro do seguinte, os dois já estão em ordem e são
+ * apenas copiados, sem comparações. A ordenação é estável.
+ */
+public class MergeSortBottomUp implements Sorter {
+
+    private static final int BLOCO_INICIAL = 16;
+
+    @Override
+    public String nome() {
+        return "MergeSortBottomUp";
+    }
+
+    @Override
+    public void ordenar(int[] chaves, int[] linhas) {
+        int n = linhas.length;
+        for (int inicio = 0; inicio < n; inicio += BLOCO_INICIAL) {
+            InsertionSortBinario.ordenar(chaves, linhas, inicio, Math.min(inicio + BLOCO_INICIAL, n));
+        }
+        if (n <= BLOCO_INICIAL) {
+            return;
+        }
+
+        int[] auxChaves = new int[n];
+        int[] auxLinhas = new int[n];
+        Contadores.alocou(8L * n);
+
+        int[] origemChaves = chaves;
+        int[] origemLinhas = linhas;
+        int[] destinoChaves = auxChaves;
+        int[] destinoLinhas = auxLinhas;
+        for (int largura = BLOCO_INICIAL; largura < n; largura *= 2) {
+            for (int left = 0; left < n; left += 2 * largura) {
+                int mid = Math.min(left + largura, n);
+                int right = Math.min(left + 2 * largura, n);
+                if (mid == right || Contadores.comparou(origemChaves[mid - 1] <= origemChaves[mid])) {
+                    copiar(origemChaves, origemLinhas, destinoChaves, destinoLinhas, left, right);
+                } else {
+                    merge(origemChaves, origemLinhas, destinoChaves, destinoLinhas, left, mid, right);
+                }
+            }
+
+            int[] temp = origemChaves;
+            origemChaves = destinoChaves;
+            destinoChaves = temp;
+            temp = origemLinhas;
+            origemLinhas = destinoLinhas;
+            destinoLinhas = temp;
+        }
+
+        // Depois de um número ímpar de passagens, o resultado está no buffer
+        if (origemChaves != chaves) {
+            copiar(origemChaves, origemLinhas, chaves, linhas, 0, n);
+        }
+        Contadores.liberou(8L * n);
+    }
+
+    /**
+     * Intercala os blocos ordenados {@code [left, mid)} e {@code [mid, right)}
+     * da origem na mesma região do destino.
+     *
+     * @param origemChaves  As chaves de onde os blocos são lidos.
+     * @param origemLinhas  A visão de onde os blocos são lidos.
+     * @param destinoChaves As chaves onde o resultado é escrito.
+     * @param destinoLinhas A visão onde o resultado é escrito.
+     * @param left          O índice inicial do primeiro bloco.
+     * @param mid           O índice inicial do segundo bloco.
+     * @param right         O índice seguinte ao final do segundo bloco.
+     */
+    private static void merge(int[] origemChaves, int[] origemLinhas, int[] destinoChaves, int[] destinoLinhas,
+            int left, int mid, int right) {
+        int i = left, j = mid, k = left;
+        while (i < mid && j < right) {
+            Contadores.movimento();
+            if (Contadores.comparou(origemChaves[i] <= origemChaves[j])) {
+                destinoChaves[k] = origemChaves[i];
+                destinoLinhas[k++] = origemLinhas[i++];
+            } else {
+                destinoChaves[k] = origemChaves[j];
+                destinoLinhas[k++] = origemLinhas[j++];
+            }
+        }
+
+        // Um dos blocos acabou; o resto do outro vai para o fim, já em ordem
+        int resto = mid - i;
+        Contadores.movimento(resto + right - j);
+        System.arraycopy(origemChaves, i, destinoChaves, k, resto);
+        System.arraycopy(origemLinhas, i, destinoLinhas, k, resto);
+        System.arraycopy(origemChaves, j, destinoChaves, k + resto, right - j);
+        System.arraycopy(origemLinhas, j, destinoLinhas, k + resto, right - j);
+    }
+
+    private static void copiar(int[] origemChaves, int[] origemLinhas, int[] destinoChaves, int[] destinoLinhas,
+            int inicio, int fim) {
+        Contadores.movimento(fim - inicio);
+        System.arraycopy(origemChaves, inicio, destinoChaves, inicio, fim - inicio);
+        System.arraycopy(origemLinhas, inicio, destinoLinhas, inicio, fim - inicio);
+    }
+}
@@ -0,0 +1,218 @@
+package Ordenacao.MergeSortParalelo;
+
+import java.util.concurrent.RecursiveAction;
+
+import Ordenacao.Contadores;
+import Ordenacao.Paralelismo;
+import Ordenacao.Sorter;
+
+/**
+ * A classe {@code MergeSortParalelo} implementa o Merge Sort sobre pares
+ * (chave, linha) em paralelo, com tarefas fork/join. As duas metades de cada
+ * intervalo são ordenadas em tarefas separadas e a intercalação também é
+ * dividida em tarefas; intervalos menores que o limite de
+ * {@link Paralelismo#limiteSequencial()} são ordenados na própria thread.
+ * <p>
+ * Um único buffer auxiliar (chaves e linhas) é alocado por ordenação e
+ * compartilhado por todas as tarefas, que sempre trabalham em trechos
+ * disjuntos dele. A ordenação é estável.
+ */
+public class MergeSortParalelo implements Sorter {
+
+    @Override
+    public String nome() {
+        return "MergeSortParalelo";
+    }
+
+    @Override
+    public void ordenar(int[] chaves, int[] linhas) {
+        int n = linhas.length;
+        if (n < 2) {
+            return;
+        }
+        int[] auxChaves = new int[n];
+        int[] auxLinhas = new int[n];
+        Contadores.alocou(8L * n);
+
+        int limite = Paralelismo.limiteSequencial();
+        if (n <= limite) {
+            mergeSort(chaves, linhas, auxChaves, auxLinhas, 0, n);
+        } else {
+            Paralelismo.pool().invoke(new Ordenacao(chaves, linhas, auxChaves, auxLinhas, 0, n, limite));
+        }
+        Contadores.liberou(8L * n);
+    }
+
+    /**
+     * Merge Sort sequencial do intervalo {@code [left, right)}, usando o buffer
+     * auxiliar compartilhado.
+     */
+    private static void mergeSort(int[] chaves, int[] linhas, int[] auxChaves, int[] auxLinhas, int left,
+            int right) {
+        if (right - left < 2) {
+            return;
+        }
+        int mid = (left + right) >>> 1;
+        mergeSort(chaves, linhas, auxChaves, auxLinhas, left, mid);
+        mergeSort(chaves, linhas, auxChaves, auxLinhas, mid, right);
+
+        System.arraycopy(chaves, left, auxChaves, left, right - left);
+        System.arraycopy(linhas, left, auxLinhas, left, right - left);
+        merge(auxChaves, auxLinhas, left, mid, mid, right, chaves, linhas, left);
+    }
+
+    /**
+     * Intercala {@code [a, aFim)} e {@code [b, bFim)} do buffer auxiliar em
+     * {@code destino}, a partir da posição {@code k}. Em caso de empate o
+     * elemento da primeira metade vem antes, o que mantém a estabilidade.
+     */
+    private static void merge(int[] auxChaves, int[] auxLinhas, int a, int aFim, int b, int bFim,
+            int[] chaves, int[] linhas, int k) {
+        while (a < aFim && b < bFim) {
+            Contadores.movimento();
+            if (Contadores.comparou(auxChaves[a] <= auxChaves[b])) {
+                chaves[k] = auxChaves[a];
+                linhas[k++] = auxLinhas[a++];
+            } else {
+                chaves[k] = auxChaves[b];
+                linhas[k++] = auxLinhas[b++];
+            }
+        }
+        while (a < aFim) {
+            Contadores.movimento();
+            chaves[k] = auxChaves[a];
+            linhas[k++] = auxLinhas[a++];
+        }
+        while (b < bFim) {
+            Contadores.movimento();
+            chaves[k] = auxChaves[b];
+            linhas[k++] = auxLinhas[b++];
+        }
+    }
+
+    /**
+     * Tarefa que ordena o intervalo {@code [left, right)}.
+     */
+    private static class Ordenacao extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] chaves;
+        private final int[] linhas;
+        private final int[] auxChaves;
+        private final int[] auxLinhas;
+        private final int left;
+        private final int right;
+        private final int limite;
+
+        Ordenacao(int[] chaves, int[] linhas, int[] auxChaves, int[] auxLinhas, int left, int right, int limite) {
+            this.chaves = chaves;
+            this.linhas = linhas;
+            this.auxChaves = auxChaves;
+            this.auxLinhas = auxLinhas;
+            this.left = left;
+            this.right = right;
+            this.limite = limite;
+        }
+
+        @Override
+        protected void compute() {
+            if (right - left <= limite) {
+                mergeSort(chaves, linhas, auxChaves, auxLinhas, left, right);
+                return;
+            }
+            int mid = (left + right) >>> 1;
+            invokeAll(new Ordenacao(chaves, linhas, auxChaves, auxLinhas, left, mid, limite),
+                    new Ordenacao(chaves, linhas, auxChaves, auxLinhas, mid, right, limite));
+
+            System.arraycopy(chaves, left, auxChaves, left, right - left);
+            System.arraycopy(linhas, left, auxLinhas, left, right - left);
+            new Intercalacao(auxChaves, auxLinhas, left, mid, mid, right, chaves, linhas, left, limite).compute();
+        }
+    }
+
+    /**
+     * Tarefa que intercala dois trechos ordenados do buffer auxiliar. Trechos
+     * grandes são divididos ao meio: o elemento central do maior trecho é
+     * localizado no menor por busca binária, e as duas partes resultantes são
+     * intercaladas em paralelo.
+     */
+    private static class Intercalacao extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] auxChaves;
+        private final int[] auxLinhas;
+        private final int a;
+        private final int aFim;
+        private final int b;
+        private final int bFim;
+        private final int[] chaves;
+        private final int[] linhas;
+        private final int k;
+        private final int limite;
+
+        Intercalacao(int[] auxChaves, int[] auxLinhas, int a, int aFim, int b, int bFim, int[] chaves,
+                int[] linhas, int k, int limite) {
+            this.auxChaves = auxChaves;
+            this.auxLinhas = auxLinhas;
+            this.a = a;
+            this.aFim = aFim;
+            this.b = b;
+            this.bFim = bFim;
+            this.chaves = chaves;
+            this.linhas = linhas;
+            this.k = k;
+            this.limite = limite;
+        }
+
+        @Override
+        protected void compute() {
+            int tamanhoA = aFim - a;
+            int tamanhoB = bFim - b;
+            if (tamanhoA + tamanhoB <= limite || tamanhoA == 0 || tamanhoB == 0) {
+                merge(auxChaves, auxLinhas, a, aFim, b, bFim, chaves, linhas, k);
+                return;
+            }
+
+            int corteA;
+            int corteB;
+            if (tamanhoA >= tamanhoB) {
+                // Elementos de A iguais ao pivô ficam à esquerda dos de B (estabilidade)
+                corteA = (a + aFim) >>> 1;
+                corteB = primeiroMaiorOuIgual(auxChaves, b, bFim, auxChaves[corteA]);
+            } else {
+                corteB = (b + bFim) >>> 1;
+                corteA = primeiroMaior(auxChaves, a, aFim, auxChaves[corteB]);
+            }
+            int corteK = k + (corteA - a) + (corteB - b);
+            invokeAll(new Intercalacao(auxChaves, auxLinhas, a, corteA, b, corteB, chaves, linhas, k, limite),
+                    new Intercalacao(auxChaves, auxLinhas, corteA, aFim, corteB, bFim, chaves, linhas, corteK,
+                            limite));
+        }
+
+        private static int primeiroMaiorOuIgual(int[] chaves, int inicio, int fim, int valor) {
+            while (inicio < fim) {
+                int meio = (inicio + fim) >>> 1;
+                if (Contadores.comparou(chaves[meio] < valor)) {
+                    inicio = meio + 1;
+                } else {
+                    fim = meio;
+                }
+            }
+            return inicio;
+        }
+
+        private static int primeiroMaior(int[] chaves, int inicio, int fim, int valor) {
+            while (inicio < fim) {
+                int meio = (inicio + fim) >>> 1;
+                if (Contadores.comparou(chaves[meio] <= valor)) {
+                    inicio = meio + 1;
+                } else {
+                    fim = meio;
+                }
+            }
+            return inicio;
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package Ordenacao;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import Dados.DatasEpoch;
+import Dados.DicionarioVenue;
+import Dados.LeitorCsv;
+import Dados.MatchStore;
+
+/**
+ * A classe {@code OrdenacaoExterna} ordena um arquivo T2 maior que o heap.
+ * O arquivo é lido em blocos limitados por um orçamento de memória; cada bloco
+ * é ordenado em memória com o {@link Sorter} escolhido e gravado em um arquivo
+ * temporário (uma <em>run</em>), e as runs são intercaladas com um heap de
+ * k posições diretamente no arquivo de saída. Empates são resolvidos pela
+ * ordem das runs, então a ordenação é estável se o {@link Sorter} for.
+ * <p>
+ * Como no {@link MatchStore}, os bytes de cada linha são copiados sem
+ * decodificação da entrada para as runs e das runs para a saída (só os campos
+ * da chave são lidos como UTF-8), e as linhas são separadas pelas quebras de
+ * linha fora de aspas, então um campo entre aspas pode conter quebras de
+ * linha.
+ * <p>
+ * Para venue é feita antes uma leitura só da coluna de estádios, para montar
+ * o {@link DicionarioVenue} do arquivo inteiro: as posições alfabéticas
+ * precisam ser as mesmas em todas as runs.
+ * <p>
+ * Configuração:
+ * <ul>
+ * <li>{@code -Dordenacao.externa.memoria=64m}: orçamento de memória de cada
+ * bloco (aceita os sufixos k, m e g);</li>
+ * <li>{@code -Dordenacao.externa.temp=/caminho}: pasta dos arquivos
+ * temporários (por padrão, {@code java.io.tmpdir}).</li>
+ * </ul>
+ * Uso: {@code java Ordenacao.OrdenacaoExterna <algoritmo> <chave> <entrada> <saida>}.
+ */
+public class OrdenacaoExterna {
+
+    private static final long MEMORIA_PADRAO = 64L << 20;
+    /** Custo estimado de uma linha em memória além dos bytes. */
+    private static final int CUSTO_LINHA = 64;
+    private static final int BUFFER_MAXIMO = 1 << 16;
+
+    private final Sorter sorter;
+    private final Chave chave;
+    private final long memoria;
+    private final File pastaTemporaria;
+    private DicionarioVenue venues;
+    private int[] ranksVenue;
+
+    /**
+     * Cria a ordenação externa com a memória e a pasta temporária das
+     * propriedades de sistema.
+     *
+     * @param sorter O algoritmo usado para ordenar cada bloco.
+     * @param chave  A coluna usada como chave de ordenação.
+     */
+    public OrdenacaoExterna(Sorter sorter, Chave chave) {
+        this(sorter, chave, lerMemoria(System.getProperty("ordenacao.externa.memoria")),
+                new File(System.getProperty("ordenacao.externa.temp", System.getProperty("java.io.tmpdir"))));
+    }
+
+    /**
+     * @param sorter          O algoritmo usado para ordenar cada bloco.
+     * @param chave           A coluna usada como chave de ordenação.
+     * @param memoria         O orçamento de memória de cada bloco, em bytes.
+     * @param pastaTemporaria A pasta onde as runs são gravadas.
+     */
+    public OrdenacaoExterna(Sorter sorter, Chave chave, long memoria, File pastaTemporaria) {
+        this.sorter = sorter;
+        this.chave = chave;
+        this.memoria = memoria;
+        this.pastaTemporaria = pastaTemporaria;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4) {
+            System.out.println("Uso: java Ordenacao.OrdenacaoExterna <algoritmo> <chave> <entrada> <saida>");
+            return;
+        }
+        Sorter sorter = RegistroOrdenacao.buscar(args[0]);
+        if (sorter == null) {
+            throw new IllegalArgumentException("Algoritmo desconhecido: " + args[0]);
+        }
+        Chave chave = null;
+        for (Chave c : Chave.values()) {
+            if (c.coluna().equalsIgnoreCase(args[1]) || c.name().equalsIgnoreCase(args[1])) {
+                chave = c;
+            }
+        }
+        if (chave == null) {
+            throw new IllegalArgumentException("Chave desconhecida: " + args[1]);
+        }
+        new OrdenacaoExterna(sorter, chave).ordenar(args[2], args[3]);
+    }
+
+    /**
+     * Ordena o arquivo de entrada pela chave e grava o resultado, com o
+     * cabeçalho original, no arquivo de saída.
+     *
+     * @param inputFile  O arquivo CSV (T2) a ser ordenado.
+     * @param outputFile O arquivo CSV de saída.
+     */
+    public void ordenar(String inputFile, String outputFile) throws IOException {
+        if (chave == Chave.VENUE) {
+            carregarVenues(inputFile);
+        }
+        pastaTemporaria.mkdirs();
+
+        List<File> runs = new ArrayList<>();
+        byte[] cabecalho;
+        try {
+            try (LeitorRegistros leitor = new LeitorRegistros(new FileInputStream(inputFile))) {
+                cabecalho = leitor.proximo();
+                List<byte[]> bloco = new ArrayList<>();
+                long usado = 0;
+                byte[] line;
+                while ((line = leitor.proximo()) != null) {
+                    bloco.add(line);
+                    usado += line.length + CUSTO_LINHA;
+                    if (usado >= memoria) {
+                        runs.add(gravarRun(bloco));
+                        bloco.clear();
+                        usado = 0;
+                    }
+                }
+                if (!bloco.isEmpty() || runs.isEmpty()) {
+                    runs.add(gravarRun(bloco));
+                }
+            }
+            intercalar(runs, cabecalho == null ? new byte[0] : cabecalho, outputFile);
+        } finally {
+            for (File run : runs) {
+                run.delete();
+            }
+        }
+        System.out.println("Ordenação externa concluída: " + runs.size() + " run(s) intercalada(s) em " + outputFile);
+    }
+
+    /**
+     * Monta o dicionário de estádios do arquivo inteiro, lendo só a coluna de
+     * venue.
+     */
+    private void carregarVenues(String inputFile) throws IOException {
+        venues = new DicionarioVenue();
+        try (LeitorRegistros leitor = new LeitorRegistros(new FileInputStream(inputFile))) {
+            byte[] line = leitor.proximo();
+            while ((line = leitor.proximo()) != null) {
+                venues.codificar(campo(campos(line), MatchStore.VENUE_INDEX));
+            }
+        }
+        ranksVenue = venues.ranks();
+    }
+
+    private static String[] campos(byte[] line) {
+        return LeitorCsv.dividirLinha(new String(line, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return O campo da coluna, ou vazio se a linha tiver menos colunas (como
+     *         uma linha em branco), como no {@link Dados.CsvMapeado#campos}.
+     */
+    private static String campo(String[] campos, int coluna) {
+        return coluna < campos.length ? campos[coluna] : "";
+    }
+
+    private int chaveDaLinha(byte[] line) {
+        String[] campos = campos(line);
+        switch (chave) {
+            case VENUE:
+                return ranksVenue[venues.codificar(campo(campos, MatchStore.VENUE_INDEX))];
+            case ATTENDANCE:
+                return MatchStore.parseToInt(campo(campos, MatchStore.ATTENDANCE_INDEX));
+            default:
+                return DatasEpoch.decodificar(campo(campos, MatchStore.FULL_DATE_INDEX));
+        }
+    }
+
+    /**
+     * Ordena um bloco em memória e o grava em um arquivo temporário, como
+     * registros (chave, tamanho, bytes da linha).
+     */
+    private File gravarRun(List<byte[]> bloco) throws IOException {
+        int n = bloco.size();
+        int[] chaves = new int[n];
+        int[] linhas = new int[n];
+        for (int i = 0; i < n; i++) {
+            chaves[i] = chaveDaLinha(bloco.get(i));
+            linhas[i] = i;
+        }
+        sorter.ordenar(chaves, linhas);
+
+        File run = File.createTempFile("run_", ".bin", pastaTemporaria);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(run), BUFFER_MAXIMO))) {
+            for (int i = 0; i < n; i++) {
+                byte[] bytes = bloco.get(linhas[i]);
+                out.writeInt(chaves[i]);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+        return run;
+    }
+
+    /**
+     * Intercala as runs no arquivo de saída. O heap guarda os índices das runs
+     * ordenados pela chave atual de cada uma (e, nos empates, pelo índice da
+     * run).
+     */
+    private void intercalar(List<File> runs, byte[] cabecalho, String outputFile) throws IOException {
+        int k = runs.size();
+        int buffer = (int) Math.max(4096, Math.min(BUFFER_MAXIMO, memoria / (k + 1)));
+        byte[] quebraLinha = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+        DataInputStream[] entradas = new DataInputStream[k];
+        int[] chaveAtual = new int[k];
+        byte[][] linhaAtual = new byte[k][];
+        int[] heap = new int[k];
+        int tamanhoHeap = 0;
+
+        try (OutputStream writer = new BufferedOutputStream(new FileOutputStream(outputFile), buffer)) {
+            for (int r = 0; r < k; r++) {
+                entradas[r] = new DataInputStream(new BufferedInputStream(new FileInputStream(runs.get(r)), buffer));
+                if (avancar(entradas[r], r, chaveAtual, linhaAtual)) {
+                    heap[tamanhoHeap] = r;
+                    subir(heap, tamanhoHeap++, chaveAtual);
+                }
+            }
+
+            writer.write(cabecalho);
+            writer.write(quebraLinha);
+            while (tamanhoHeap > 0) {
+                int r = heap[0];
+                writer.write(linhaAtual[r]);
+                writer.write(quebraLinha);
+                if (!avancar(entradas[r], r, chaveAtual, linhaAtual)) {
+                    heap[0] = heap[--tamanhoHeap];
+                }
+                descer(heap, tamanhoHeap, chaveAtual);
+            }
+        } finally {
+            for (DataInputStream entrada : entradas) {
+                if (entrada != null) {
+                    entrada.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Lê o próximo registro da run.
+     *
+     * @return Falso se a run terminou.
+     */
+    private static boolean avancar(DataInputStream entrada, int r, int[] chaveAtual, byte[][] linhaAtual)
+            throws IOException {
+        try {
+            chaveAtual[r] = entrada.readInt();
+        } catch (EOFException e) {
+            return false;
+        }
+        byte[] bytes = new byte[entrada.readInt()];
+        entrada.readFully(bytes);
+        linhaAtual[r] = bytes;
+        return true;
+    }
+
+    private static boolean menor(int a, int b, int[] chaveAtual) {
+        return Contadores.comparou(chaveAtual[a] != chaveAtual[b] ? chaveAtual[a] < chaveAtual[b] : a < b);
+    }
+
+    private static void subir(int[] heap, int i, int[] chaveAtual) {
+        while (i > 0) {
+            int pai = (i - 1) / 2;
+            if (!menor(heap[i], heap[pai], chaveAtual)) {
+                return;
+            }
+            int temp = heap[i];
+            heap[i] = heap[pai];
+            heap[pai] = temp;
+            i = pai;
+        }
+    }
+
+    private static void descer(int[] heap, int tamanho, int[] chaveAtual) {
+        int i = 0;
+        while (true) {
+            int menorFilho = 2 * i + 1;
+            if (menorFilho >= tamanho) {
+                return;
+            }
+            if (menorFilho + 1 < tamanho && menor(heap[menorFilho + 1], heap[menorFilho], chaveAtual)) {
+                menorFilho++;
+            }
+            if (!menor(heap[menorFilho], heap[i], chaveAtual)) {
+                return;
+            }
+            int temp = heap[i];
+            heap[i] = heap[menorFilho];
+            heap[menorFilho] = temp;
+            i = menorFilho;
+        }
+    }
+
+    /**
+     * Converte um tamanho como "64m" em bytes.
+     */
+    private static long lerMemoria(String valor) {
+        if (valor == null || valor.trim().isEmpty()) {
+            return MEMORIA_PADRAO;
+        }
+        String texto = valor.trim().toLowerCase(Locale.ROOT);
+        long multiplicador = 1;
+        char sufixo = texto.charAt(texto.length() - 1);
+        if (sufixo == 'k' || sufixo == 'm' || sufixo == 'g') {
+            multiplicador = sufixo == 'k' ? 1L << 10 : sufixo == 'm' ? 1L << 20 : 1L << 30;
+            texto = texto.substring(0, texto.length() - 1);
+        }
+        return Math.max(1, Long.parseLong(texto) * multiplicador);
+    }
+
+    /**
+     * Lê os registros de um CSV como bytes, sem decodificação. Um registro
+     * termina em uma quebra de linha fora de aspas, pela mesma paridade de
+     * aspas do {@link Dados.CsvMapeado} e do {@link Dados.LeitorCsvParalelo}, e
+     * o {@code \r} final é descartado.
+     */
+    private static final class LeitorRegistros implements AutoCloseable {
+
+        private final InputStream entrada;
+        private final byte[] buffer = new byte[BUFFER_MAXIMO];
+        private int posicao;
+        private int limite;
+        private byte[] registro = new byte[256];
+
+        LeitorRegistros(InputStream entrada) {
+            this.entrada = entrada;
+        }
+
+        /**
+         * @return Os bytes do próximo registro, ou {@code null} no fim do
+         *         arquivo.
+         */
+        byte[] proximo() throws IOException {
+            int tamanho = 0;
+            boolean insideQuotes = false;
+            while (true) {
+                if (posicao == limite) {
+                    limite = entrada.read(buffer, 0, buffer.length);
+                    posicao = 0;
+                    if (limite <= 0) {
+                        limite = 0;
+                        return tamanho == 0 ? null : finalizar(tamanho);
+                    }
+                }
+                byte b = buffer[posicao++];
+                if (b == '\n' && !insideQuotes) {
+                    return finalizar(tamanho);
+                }
+                if (b == '"') {
+                    insideQuotes = !insideQuotes;
+                }
+                if (tamanho == registro.length) {
+                    registro = Arrays.copyOf(registro, tamanho * 2);
+                }
+                registro[tamanho++] = b;
+            }
+        }
+
+        private byte[] finalizar(int tamanho) {
+            if (tamanho > 0 && registro[tamanho - 1] == '\r') {
+                tamanho--;
+            }
+            return Arrays.copyOf(registro, tamanho);
+        }
+
+        @Override
+        public void close() throws IOException {
+            entrada.close();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package Ordenacao;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Configuração compartilhada pelos algoritmos paralelos (fork/join).
+ * <ul>
+ * <li>{@code -Dordenacao.paralelo.threads=N}: número de threads do pool. Sem a
+ * propriedade, o pool tem uma thread por núcleo.</li>
+ * <li>{@code -Dordenacao.paralelo.limite=N}: tamanho a partir do qual um
+ * intervalo é dividido em tarefas; intervalos menores são ordenados na própria
+ * thread. O padrão é 8192.</li>
+ * </ul>
+ * O pool é próprio (e não o {@link ForkJoinPool#commonPool()}) para que as
+ * suas threads sejam conhecidas: o {@link PerfilExecucao} soma a memória
+ * alocada por elas à da thread que ordenou.
+ */
+public final class Paralelismo {
+
+    private static final int LIMITE_PADRAO = 8192;
+
+    private static final Set<Thread> THREADS = Collections.newSetFromMap(new ConcurrentHashMap<Thread, Boolean>());
+
+    private static final ForkJoinPool POOL = criarPool();
+
+    private Paralelismo() {
+    }
+
+    /**
+     * @return O pool em que as tarefas de ordenação são executadas.
+     */
+    public static ForkJoinPool pool() {
+        return POOL;
+    }
+
+    /**
+     * @return O limite sequencial configurado (no mínimo 2).
+     */
+    public static int limiteSequencial() {
+        return Math.max(2, Integer.getInteger("ordenacao.paralelo.limite", LIMITE_PADRAO));
+    }
+
+    /**
+     * @return As threads do pool que estão vivas.
+     */
+    static List<Thread> threads() {
+        THREADS.removeIf(thread -> !thread.isAlive());
+        return new ArrayList<>(THREADS);
+    }
+
+    private static ForkJoinPool criarPool() {
+        Integer threads = Integer.getInteger("ordenacao.paralelo.threads");
+        int paralelismo = threads == null ? Runtime.getRuntime().availableProcessors() : Math.max(1, threads);
+        return new ForkJoinPool(paralelismo, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            THREADS.add(thread);
+            return thread;
+        }, null, false);
+    }
+}
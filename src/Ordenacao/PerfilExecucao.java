@@ -0,0 +1,261 @@
+package Ordenacao;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * O perfil de uma execução de ordenação: tempo, bytes alocados pela thread que
+ * ordenou e pelas threads do pool de {@link Paralelismo}, coletas de lixo
+ * (jovens e velhas) ocorridas durante a execução e o pico de uso do heap.
+ * <p>
+ * Use {@link #iniciar()} imediatamente antes da ordenação e
+ * {@link #finalizar()} logo depois. Os picos dos pools de memória do heap são
+ * zerados em {@link #iniciar()}, então o pico reportado é o da execução (somado
+ * ao que já estava no heap antes dela). É o pico de <em>uso</em> do heap, e não
+ * do conjunto vivo: inclui o lixo ainda não coletado e a ocupação da geração
+ * jovem.
+ * <p>
+ * Quando outro perfil está em andamento ao mesmo tempo (como em
+ * {@link ExecucaoOrdenacao#executarEmParalelo}), o pool e o heap são
+ * compartilhados: os picos não são zerados, o pico de uso do heap fica
+ * indisponível e os bytes alocados são só os da thread que ordenou. Nesse caso
+ * {@link #concorrente()} é verdadeiro.
+ */
+public final class PerfilExecucao {
+
+    /** Trechos dos nomes dos coletores da geração jovem (Serial, Parallel, CMS, G1 e ZGC). */
+    private static final List<String> COLETORES_JOVENS = Arrays.asList("Young", "Scavenge", "Copy", "ParNew", "Minor");
+
+    private static final Object TRAVA = new Object();
+    /** Perfis entre {@link #iniciar()} e {@link #finalizar()}. */
+    private static int emAndamento;
+    /** Perfis já iniciados, para saber se outro começou durante este. */
+    private static long iniciados;
+
+    private final long iniciadosAteEste;
+    private boolean concorrente;
+    private final long inicioAlocado;
+    private final Map<Long, Long> inicioAlocadoPool;
+    private final long[] inicioColetas = new long[2];
+    private final long[] inicioTempoColetas = new long[2];
+    private final long inicioNanos;
+
+    private long tempoNanos;
+    private long bytesAlocados;
+    private final long[] coletas = new long[2];
+    private final long[] tempoColetasMs = new long[2];
+    private long picoUsoHeap = -1;
+
+    private PerfilExecucao() {
+        synchronized (TRAVA) {
+            concorrente = emAndamento > 0;
+            emAndamento++;
+            iniciadosAteEste = ++iniciados;
+            if (!concorrente) {
+                for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                    if (pool.getType() == MemoryType.HEAP) {
+                        pool.resetPeakUsage();
+                    }
+                }
+            }
+        }
+        somarColetas(inicioColetas, inicioTempoColetas);
+        inicioAlocado = bytesAlocadosPelaThread();
+        inicioAlocadoPool = bytesAlocadosPeloPool();
+        inicioNanos = System.nanoTime();
+    }
+
+    /**
+     * Começa a medir uma execução na thread atual.
+     *
+     * @return O perfil em andamento.
+     */
+    public static PerfilExecucao iniciar() {
+        return new PerfilExecucao();
+    }
+
+    /**
+     * Encerra a medição. Deve ser chamado na mesma thread de {@link #iniciar()}.
+     *
+     * @return Este perfil, já com os valores da execução.
+     */
+    public PerfilExecucao finalizar() {
+        tempoNanos = System.nanoTime() - inicioNanos;
+        long alocado = bytesAlocadosPelaThread();
+        Map<Long, Long> alocadoPool = bytesAlocadosPeloPool();
+        synchronized (TRAVA) {
+            emAndamento--;
+            concorrente |= iniciados != iniciadosAteEste;
+        }
+
+        bytesAlocados = alocado < 0 || inicioAlocado < 0 ? -1 : alocado - inicioAlocado;
+        if (bytesAlocados >= 0 && !concorrente) {
+            // Threads criadas durante a execução começaram do zero; as que
+            // terminaram durante ela não entram na soma
+            for (Map.Entry<Long, Long> thread : alocadoPool.entrySet()) {
+                Long inicio = inicioAlocadoPool.get(thread.getKey());
+                bytesAlocados += thread.getValue() - (inicio == null ? 0 : inicio);
+            }
+        }
+
+        somarColetas(coletas, tempoColetasMs);
+        for (int i = 0; i < 2; i++) {
+            coletas[i] -= inicioColetas[i];
+            tempoColetasMs[i] -= inicioTempoColetas[i];
+        }
+
+        if (!concorrente) {
+            picoUsoHeap = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                    picoUsoHeap += pool.getPeakUsage().getUsed();
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return O tempo da execução, em milissegundos.
+     */
+    public long tempoMs() {
+        return tempoNanos / 1_000_000;
+    }
+
+    /**
+     * @return O tempo da execução, em nanossegundos.
+     */
+    public long tempoNanos() {
+        return tempoNanos;
+    }
+
+    /**
+     * @return Os bytes alocados durante a execução pela thread que ordenou e
+     *         pelas threads do pool (só pela thread que ordenou, se o perfil
+     *         for {@link #concorrente()}), ou -1 se a JVM não fornecer essa
+     *         medida.
+     */
+    public long bytesAlocados() {
+        return bytesAlocados;
+    }
+
+    /**
+     * @return O número de coletas da geração jovem durante a execução.
+     */
+    public long coletasJovens() {
+        return coletas[0];
+    }
+
+    /**
+     * @return O tempo gasto em coletas da geração jovem, em milissegundos.
+     */
+    public long tempoColetasJovensMs() {
+        return tempoColetasMs[0];
+    }
+
+    /**
+     * @return O número de coletas da geração velha durante a execução.
+     */
+    public long coletasVelhas() {
+        return coletas[1];
+    }
+
+    /**
+     * @return O tempo gasto em coletas da geração velha, em milissegundos.
+     */
+    public long tempoColetasVelhasMs() {
+        return tempoColetasMs[1];
+    }
+
+    /**
+     * @return A soma dos picos de uso dos pools do heap durante a execução
+     *         (incluindo lixo não coletado), em bytes, ou -1 se o perfil for
+     *         {@link #concorrente()}.
+     */
+    public long picoUsoHeap() {
+        return picoUsoHeap;
+    }
+
+    /**
+     * @return Verdadeiro se outro perfil esteve em andamento durante este.
+     */
+    public boolean concorrente() {
+        return concorrente;
+    }
+
+    @Override
+    public String toString() {
+        String alocado = bytesAlocados < 0 ? "indisponível" : bytesAlocados + " bytes";
+        return (concorrente ? "Alocado pela thread que ordenou: " + alocado : "Alocado pela ordenação: " + alocado)
+                + " | GC jovem: " + coletas[0] + " (" + tempoColetasMs[0] + " ms)"
+                + " | GC velho: " + coletas[1] + " (" + tempoColetasMs[1] + " ms)"
+                + " | Pico de uso do heap: "
+                + (picoUsoHeap < 0 ? "indisponível (outras ordenações em andamento)" : picoUsoHeap + " bytes");
+    }
+
+    /**
+     * Soma as coletas e o tempo de coleta de todos os coletores, separando os
+     * coletores da geração jovem (índice 0) dos demais (1).
+     */
+    private static void somarColetas(long[] quantidade, long[] tempoMs) {
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            int geracao = ehColetorJovem(gc.getName()) ? 0 : 1;
+            quantidade[geracao] += Math.max(0, gc.getCollectionCount());
+            tempoMs[geracao] += Math.max(0, gc.getCollectionTime());
+        }
+    }
+
+    private static boolean ehColetorJovem(String nome) {
+        for (String trecho : COLETORES_JOVENS) {
+            if (nome.contains(trecho)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long bytesAlocadosPelaThread() {
+        com.sun.management.ThreadMXBean threads = threadMXBean();
+        return threads == null ? -1 : threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * @return Os bytes alocados até agora por cada thread viva do pool,
+     *         indexados pelo id da thread (vazio se a JVM não fornecer essa
+     *         medida).
+     */
+    private static Map<Long, Long> bytesAlocadosPeloPool() {
+        Map<Long, Long> alocado = new HashMap<>();
+        com.sun.management.ThreadMXBean threads = threadMXBean();
+        if (threads == null) {
+            return alocado;
+        }
+        long atual = Thread.currentThread().getId();
+        for (Thread thread : Paralelismo.threads()) {
+            long id = thread.getId();
+            long bytes = threads.getThreadAllocatedBytes(id);
+            if (id != atual && bytes >= 0) {
+                alocado.put(id, bytes);
+            }
+        }
+        return alocado;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+            if (sunThreads.isThreadAllocatedMemorySupported() && sunThreads.isThreadAllocatedMemoryEnabled()) {
+                return sunThreads;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,70 @@
+package Ordenacao;
+
+import java.util.Arrays;
+
+/**
+ * Pilha de intervalos {@code [low, high]} guardada em um único array de
+ * inteiros, para os algoritmos iterativos. Ao contrário de uma
+ * {@code java.util.Stack} de objetos, empilhar não aloca nada (exceto quando o
+ * array precisa crescer) e nenhuma operação é sincronizada.
+ */
+public final class PilhaIntervalos {
+
+    private int[] dados = new int[64];
+    private int tamanho;
+    private int low;
+    private int high;
+
+    public PilhaIntervalos() {
+        Contadores.alocou(4L * dados.length);
+    }
+
+    /**
+     * Empilha o intervalo {@code [low, high]}.
+     */
+    public void empilhar(int low, int high) {
+        if (tamanho + 2 > dados.length) {
+            Contadores.alocou(4L * dados.length);
+            dados = Arrays.copyOf(dados, dados.length * 2);
+        }
+        dados[tamanho++] = low;
+        dados[tamanho++] = high;
+    }
+
+    /**
+     * @return Verdadeiro se não houver intervalos na pilha.
+     */
+    public boolean vazia() {
+        return tamanho == 0;
+    }
+
+    /**
+     * Remove o intervalo do topo; os seus limites ficam disponíveis em
+     * {@link #low()} e {@link #high()}.
+     */
+    public void desempilhar() {
+        high = dados[--tamanho];
+        low = dados[--tamanho];
+    }
+
+    /**
+     * @return O início do último intervalo desempilhado.
+     */
+    public int low() {
+        return low;
+    }
+
+    /**
+     * @return O fim do último intervalo desempilhado.
+     */
+    public int high() {
+        return high;
+    }
+
+    /**
+     * Registra nos {@link Contadores} a liberação do array da pilha.
+     */
+    public void liberar() {
+        Contadores.liberou(4L * dados.length);
+    }
+}
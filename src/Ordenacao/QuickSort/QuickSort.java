@@ -0,0 +1,97 @@
+package Ordenacao.QuickSort;
+
+import Ordenacao.Contadores;
+import Ordenacao.PilhaIntervalos;
+import Ordenacao.Sorter;
+
+/**
+ * A classe {@code QuickSort} implementa o algoritmo de ordenação Quick Sort
+ * iterativo sobre pares (chave, linha).
+ */
+public class QuickSort implements Sorter {
+
+    @Override
+    public String nome() {
+        return "QuickSort";
+    }
+
+    /**
+     * Ordena usando uma {@link PilhaIntervalos} em vez de recursão.
+     */
+    @Override
+    public void ordenar(int[] chaves, int[] linhas) {
+        PilhaIntervalos pilha = new PilhaIntervalos();
+        pilha.empilhar(0, linhas.length - 1);
+
+        while (!pilha.vazia()) {
+            pilha.desempilhar();
+            int low = pilha.low();
+            int high = pilha.high();
+
+            if (low < high) {
+                int pi = partition(chaves, linhas, low, high);
+                pilha.empilhar(low, pi - 1);
+                pilha.empilhar(pi + 1, high);
+            }
+        }
+        pilha.liberar();
+    }
+
+    /**
+     * Particiona o intervalo usando como pivô a mediana entre o primeiro, o do
+     * meio e o último elemento.
+     *
+     * @return O índice do pivô após a partição.
+     */
+    private int partition(int[] chaves, int[] linhas, int low, int high) {
+        // Escolha o pivô como a mediana entre low, middle e high
+        int middle = (low + high) / 2;
+        int pivotValue = medianOfThree(chaves[low], chaves[middle], chaves[high]);
+
+        int pivotIndex = (pivotValue == chaves[low]) ? low
+                : (pivotValue == chaves[middle]) ? middle : high;
+
+        swap(chaves, linhas, pivotIndex, high);
+
+        int pivot = chaves[high];
+        int i = (low - 1);
+        for (int j = low; j < high; j++) {
+            if (Contadores.comparou(chaves[j] < pivot)) {
+                i++;
+                swap(chaves, linhas, i, j);
+            }
+        }
+        swap(chaves, linhas, i + 1, high);
+
+        return i + 1;
+    }
+
+    /**
+     * Troca duas posições das chaves e da visão.
+     *
+     * @param chaves As chaves de ordenação.
+     * @param linhas A visão com os índices das linhas.
+     * @param i      O índice da primeira posição.
+     * @param j      O índice da segunda posição.
+     */
+    private void swap(int[] chaves, int[] linhas, int i, int j) {
+        Contadores.troca();
+        int temp = chaves[i];
+        chaves[i] = chaves[j];
+        chaves[j] = temp;
+
+        temp = linhas[i];
+        linhas[i] = linhas[j];
+        linhas[j] = temp;
+    }
+
+    private int medianOfThree(int a, int b, int c) {
+        if ((a > b) == (a < c)) {
+            return a;
+        } else if ((b > a) == (b < c)) {
+            return b;
+        } else {
+            return c;
+        }
+    }
+}
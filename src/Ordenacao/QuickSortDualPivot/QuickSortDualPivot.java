@@ -0,0 +1,164 @@
+package Ordenacao.QuickSortDualPivot;
+
+import Ordenacao.Contadores;
+import Ordenacao.Sorter;
+import Ordenacao.HeapSort.HeapSort;
+import Ordenacao.InsertionSort.InsertionSort;
+
+/**
+ * A classe {@code QuickSortDualPivot} implementa o Quick Sort de dois pivôs
+ * (Yaroslavskiy) sobre pares (chave, linha), pensado para chaves com muitas
+ * repetições, como attendance e full_date (todas as partidas de um mesmo dia
+ * têm a mesma data).
+ * <ul>
+ * <li>Com dois pivôs {@code p1 < p2}, cada passagem divide o intervalo em
+ * três partes: menores que {@code p1}, entre os dois e maiores que
+ * {@code p2}. Quando a parte do meio é grande, as chaves iguais a
+ * {@code p1} e a {@code p2} são levadas para as suas pontas em mais uma
+ * passagem e saem da recursão.</li>
+ * <li>Com {@code p1 == p2}, a partição é a de três vias de Dijkstra (menores,
+ * iguais e maiores): toda a sequência de chaves iguais ao pivô é retirada de
+ * uma vez.</li>
+ * <li>Intervalos com até {@value #LIMITE_INSERCAO} elementos são ordenados pelo
+ * {@link InsertionSort}, e um intervalo que passa de 2·⌊log₂ n⌋ níveis de
+ * recursão é ordenado com o {@link HeapSort}, como no
+ * {@link Ordenacao.IntroSort.IntroSort}.</li>
+ * </ul>
+ */
+public class QuickSortDualPivot implements Sorter {
+
+    private static final int LIMITE_INSERCAO = 16;
+
+    @Override
+    public String nome() {
+        return "QuickSortDualPivot";
+    }
+
+    @Override
+    public void ordenar(int[] chaves, int[] linhas) {
+        int n = linhas.length;
+        if (n < 2) {
+            return;
+        }
+        quickSort(chaves, linhas, 0, n - 1, 2 * (31 - Integer.numberOfLeadingZeros(n)));
+    }
+
+    /**
+     * Ordena o intervalo {@code [low, high]}.
+     *
+     * @param profundidade Quantas partições ainda podem ser feitas antes de
+     *                     recorrer ao Heap Sort.
+     */
+    private static void quickSort(int[] chaves, int[] linhas, int low, int high, int profundidade) {
+        int tamanho = high - low + 1;
+        if (tamanho <= LIMITE_INSERCAO) {
+            InsertionSort.ordenar(chaves, linhas, low, high + 1);
+            return;
+        }
+        if (profundidade == 0) {
+            HeapSort.ordenar(chaves, linhas, low, high + 1);
+            return;
+        }
+        profundidade--;
+
+        // Pivôs nos tercis do intervalo, levados para as pontas
+        int terco = tamanho / 3;
+        swap(chaves, linhas, low, low + terco);
+        swap(chaves, linhas, high, high - terco);
+        if (Contadores.comparou(chaves[low] > chaves[high])) {
+            swap(chaves, linhas, low, high);
+        }
+        int p1 = chaves[low];
+        int p2 = chaves[high];
+
+        if (p1 == p2) {
+            particionarTresVias(chaves, linhas, low, high, p1, profundidade);
+            return;
+        }
+
+        // Invariante: [low + 1, lt) < p1, [lt, k) entre p1 e p2, (gt, high - 1] > p2
+        int lt = low + 1;
+        int gt = high - 1;
+        int k = lt;
+        while (k <= gt) {
+            if (Contadores.comparou(chaves[k] < p1)) {
+                swap(chaves, linhas, k, lt++);
+            } else if (Contadores.comparou(chaves[k] > p2)) {
+                while (k < gt && Contadores.comparou(chaves[gt] > p2)) {
+                    gt--;
+                }
+                swap(chaves, linhas, k, gt--);
+                if (Contadores.comparou(chaves[k] < p1)) {
+                    swap(chaves, linhas, k, lt++);
+                }
+            }
+            k++;
+        }
+        lt--;
+        gt++;
+        swap(chaves, linhas, low, lt);
+        swap(chaves, linhas, high, gt);
+
+        quickSort(chaves, linhas, low, lt - 1, profundidade);
+        quickSort(chaves, linhas, gt + 1, high, profundidade);
+
+        // Meio grande: provavelmente muitas chaves iguais aos pivôs
+        int inicioMeio = lt + 1;
+        int fimMeio = gt - 1;
+        if (fimMeio - inicioMeio + 1 > tamanho / 2) {
+            int i = inicioMeio;
+            while (i <= fimMeio) {
+                if (Contadores.comparou(chaves[i] == p1)) {
+                    swap(chaves, linhas, i++, inicioMeio++);
+                } else if (Contadores.comparou(chaves[i] == p2)) {
+                    swap(chaves, linhas, i, fimMeio--);
+                } else {
+                    i++;
+                }
+            }
+        }
+        quickSort(chaves, linhas, inicioMeio, fimMeio, profundidade);
+    }
+
+    /**
+     * Partição de três vias de Dijkstra de {@code [low, high]} em torno de
+     * {@code pivot}: as chaves iguais ao pivô ficam no meio, já na posição
+     * final, e só as menores e as maiores continuam na recursão.
+     */
+    private static void particionarTresVias(int[] chaves, int[] linhas, int low, int high, int pivot,
+            int profundidade) {
+        int lt = low;
+        int gt = high;
+        int i = low;
+        while (i <= gt) {
+            if (Contadores.comparou(chaves[i] < pivot)) {
+                swap(chaves, linhas, lt++, i++);
+            } else if (Contadores.comparou(chaves[i] > pivot)) {
+                swap(chaves, linhas, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        quickSort(chaves, linhas, low, lt - 1, profundidade);
+        quickSort(chaves, linhas, gt + 1, high, profundidade);
+    }
+
+    /**
+     * Troca duas posições das chaves e da visão.
+     *
+     * @param chaves As chaves de ordenação.
+     * @param linhas A visão com os índices das linhas.
+     * @param i      O índice da primeira posição.
+     * @param j      O índice da segunda posição.
+     */
+    private static void swap(int[] chaves, int[] linhas, int i, int j) {
+        Contadores.troca();
+        int temp = chaves[i];
+        chaves[i] = chaves[j];
+        chaves[j] = temp;
+
+        temp = linhas[i];
+        linhas[i] = linhas[j];
+        linhas[j] = temp;
+    }
+}
@@ -0,0 +1,99 @@
+package Ordenacao.QuickSortMediana3;
+
+import Ordenacao.Contadores;
+import Ordenacao.Sorter;
+
+/**
+ * A classe {@code QuickSortMediana3} implementa o algoritmo de ordenação
+ * QuickSort recursivo com a estratégia de pivô mediana de 3 sobre pares
+ * (chave, linha).
+ */
+public class QuickSortMediana3 implements Sorter {
+
+    @Override
+    public String nome() {
+        return "QuickSortMediana3";
+    }
+
+    @Override
+    public void ordenar(int[] chaves, int[] linhas) {
+        quickSort(chaves, linhas, 0, linhas.length - 1);
+    }
+
+    /**
+     * Realiza a ordenação usando o algoritmo QuickSort com a estratégia de pivô
+     * mediana de 3.
+     *
+     * @param chaves As chaves de ordenação, na mesma ordem de {@code linhas}.
+     * @param linhas A visão com os índices das linhas a serem ordenadas.
+     * @param left   O índice do elemento mais à esquerda.
+     * @param right  O índice do elemento mais à direita.
+     */
+    private void quickSort(int[] chaves, int[] linhas, int left, int right) {
+        if (left < right) {
+            int pivotIndex = partition(chaves, linhas, left, right);
+
+            // Recursivamente ordena as duas partições
+            quickSort(chaves, linhas, left, pivotIndex - 1);
+            quickSort(chaves, linhas, pivotIndex + 1, right);
+        }
+    }
+
+    /**
+     * Particiona as chaves e a visão usando como pivô a mediana entre o
+     * primeiro, o do meio e o último elemento. O pivô escolhido é levado para a
+     * última posição antes da partição.
+     *
+     * @param chaves As chaves de ordenação, na mesma ordem de {@code linhas}.
+     * @param linhas A visão com os índices das linhas a serem ordenadas.
+     * @param left   O índice do elemento mais à esquerda.
+     * @param right  O índice do elemento mais à direita.
+     * @return O índice do pivô após a partição.
+     */
+    private int partition(int[] chaves, int[] linhas, int left, int right) {
+        int mid = left + (right - left) / 2;
+
+        // Ordena left, mid e right entre si; a mediana fica em mid
+        if (Contadores.comparou(chaves[mid] < chaves[left])) {
+            swap(chaves, linhas, left, mid);
+        }
+        if (Contadores.comparou(chaves[right] < chaves[left])) {
+            swap(chaves, linhas, left, right);
+        }
+        if (Contadores.comparou(chaves[right] < chaves[mid])) {
+            swap(chaves, linhas, mid, right);
+        }
+        swap(chaves, linhas, mid, right);
+
+        int pivot = chaves[right];
+        int i = left - 1;
+        for (int j = left; j < right; j++) {
+            if (Contadores.comparou(chaves[j] <= pivot)) {
+                i++;
+                swap(chaves, linhas, i, j);
+            }
+        }
+
+        swap(chaves, linhas, i + 1, right);
+        return i + 1;
+    }
+
+    /**
+     * Troca duas posições das chaves e da visão.
+     *
+     * @param chaves As chaves de ordenação.
+     * @param linhas A visão com os índices das linhas.
+     * @param i      O índice da primeira posição.
+     * @param j      O índice da segunda posição.
+     */
+    private void swap(int[] chaves, int[] linhas, int i, int j) {
+        Contadores.troca();
+        int temp = chaves[i];
+        chaves[i] = chaves[j];
+        chaves[j] = temp;
+
+        temp = linhas[i];
+        linhas[i] = linhas[j];
+        linhas[j] = temp;
+    }
+}
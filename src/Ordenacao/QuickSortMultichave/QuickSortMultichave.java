@@ -0,0 +1,124 @@
+package Ordenacao.QuickSortMultichave;
+
+import Ordenacao.Contadores;
+
+/**
+ * A classe {@code QuickSortMultichave} implementa o Quick Sort de três vias
+ * sobre textos (Bentley e Sedgewick), para chaves dadas como arrays de bytes,
+ * como os nomes normalizados do {@link Dados.DicionarioVenue}.
+ * <p>
+ * Cada partição compara um único byte, na profundidade atual, e separa os
+ * textos em menores, iguais e maiores; só o grupo dos iguais avança para o
+ * próximo byte. Assim um prefixo comum (por exemplo, "stadium...") é lido uma
+ * vez por partição em vez de a cada comparação, e o custo cresce com o total
+ * de bytes distintivos das chaves, não com n log n comparações de textos
+ * inteiros. Intervalos pequenos são ordenados por inserção a partir da
+ * profundidade atual.
+ */
+public final class QuickSortMultichave {
+
+    private static final int LIMITE_INSERCAO = 12;
+
+    private QuickSortMultichave() {
+    }
+
+    /**
+     * Ordena os índices pela ordem lexicográfica (bytes sem sinal) das chaves.
+     * Um texto que é prefixo de outro vem antes dele.
+     *
+     * @param chaves  As chaves, indexadas pelos valores de {@code indices}.
+     * @param indices Os índices a serem ordenados.
+     */
+    public static void ordenar(byte[][] chaves, int[] indices) {
+        ordenar(chaves, indices, 0, indices.length - 1, 0);
+    }
+
+    /**
+     * @param chaves As chaves a serem ordenadas.
+     * @return Os índices de {@code chaves} em ordem lexicográfica.
+     */
+    public static int[] permutacao(byte[][] chaves) {
+        int[] indices = new int[chaves.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        ordenar(chaves, indices);
+        return indices;
+    }
+
+    private static void ordenar(byte[][] chaves, int[] indices, int low, int high, int profundidade) {
+        while (high - low >= LIMITE_INSERCAO) {
+            // O pivô é o byte do elemento do meio, levado para a primeira posição
+            swap(indices, low, (low + high) >>> 1);
+            int pivot = byteEm(chaves[indices[low]], profundidade);
+
+            int lt = low;
+            int gt = high;
+            int i = low + 1;
+            while (i <= gt) {
+                int atual = byteEm(chaves[indices[i]], profundidade);
+                if (Contadores.comparou(atual < pivot)) {
+                    swap(indices, lt++, i++);
+                } else if (Contadores.comparou(atual > pivot)) {
+                    swap(indices, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            ordenar(chaves, indices, low, lt - 1, profundidade);
+            ordenar(chaves, indices, gt + 1, high, profundidade);
+            if (pivot < 0) {
+                // Todos os iguais já terminaram: são o mesmo texto
+                return;
+            }
+            low = lt;
+            high = gt;
+            profundidade++;
+        }
+        insercao(chaves, indices, low, high, profundidade);
+    }
+
+    /**
+     * Ordena {@code [low, high]} por inserção, sabendo que os textos do
+     * intervalo têm os primeiros {@code profundidade} bytes iguais.
+     */
+    private static void insercao(byte[][] chaves, int[] indices, int low, int high, int profundidade) {
+        for (int i = low + 1; i <= high; i++) {
+            int indice = indices[i];
+            int j = i - 1;
+            while (j >= low && Contadores.comparou(comparar(chaves[indices[j]], chaves[indice], profundidade) > 0)) {
+                Contadores.movimento();
+                indices[j + 1] = indices[j];
+                j--;
+            }
+            Contadores.movimento();
+            indices[j + 1] = indice;
+        }
+    }
+
+    private static int comparar(byte[] a, byte[] b, int profundidade) {
+        int tamanho = Math.min(a.length, b.length);
+        for (int i = profundidade; i < tamanho; i++) {
+            int diferenca = (a[i] & 0xFF) - (b[i] & 0xFF);
+            if (diferenca != 0) {
+                return diferenca;
+            }
+        }
+        return a.length - b.length;
+    }
+
+    /**
+     * @return O byte (sem sinal) na posição, ou -1 depois do fim do texto.
+     */
+    private static int byteEm(byte[] chave, int posicao) {
+        return posicao < chave.length ? chave[posicao] & 0xFF : -1;
+    }
+
+    private static void swap(int[] indices, int i, int j) {
+        Contadores.troca();
+        int temp = indices[i];
+        indices[i] = indices[j];
+        indices[j] = temp;
+    }
+}
@@ -0,0 +1,164 @@
+package Ordenacao.QuickSortParalelo;
+
+import java.util.concurrent.RecursiveAction;
+
+import Ordenacao.Contadores;
+import Ordenacao.Paralelismo;
+import Ordenacao.PilhaIntervalos;
+import Ordenacao.Sorter;
+
+/**
+ * A classe {@code QuickSortParalelo} implementa o Quick Sort sobre pares
+ * (chave, linha) em paralelo. Cada partição maior que
+ * {@link Paralelismo#limiteSequencial()} vira duas tarefas fork/join; as
+ * menores são ordenadas na própria thread com uma {@link PilhaIntervalos}.
+ * <p>
+ * O pivô é a mediana entre o primeiro, o do meio e o último elemento, e a
+ * partição é a de Hoare: os dois índices param em chaves iguais ao pivô, de
+ * modo que colunas com muitas chaves repetidas (como attendance, em que as
+ * partidas sem público informado valem 0) continuam gerando partições
+ * equilibradas.
+ */
+public class QuickSortParalelo implements Sorter {
+
+    @Override
+    public String nome() {
+        return "QuickSortParalelo";
+    }
+
+    @Override
+    public void ordenar(int[] chaves, int[] linhas) {
+        int n = linhas.length;
+        if (n < 2) {
+            return;
+        }
+        int limite = Paralelismo.limiteSequencial();
+        if (n <= limite) {
+            quickSort(chaves, linhas, 0, n - 1);
+        } else {
+            Paralelismo.pool().invoke(new Tarefa(chaves, linhas, 0, n - 1, limite));
+        }
+    }
+
+    /**
+     * Quick Sort sequencial do intervalo {@code [low, high]}. O maior lado de
+     * cada partição é empilhado primeiro, então o menor é ordenado antes e a
+     * pilha cresce no máximo log n intervalos.
+     */
+    private static void quickSort(int[] chaves, int[] linhas, int low, int high) {
+        PilhaIntervalos pilha = new PilhaIntervalos();
+        pilha.empilhar(low, high);
+
+        while (!pilha.vazia()) {
+            pilha.desempilhar();
+            int l = pilha.low();
+            int h = pilha.high();
+
+            if (l < h) {
+                int j = partition(chaves, linhas, l, h);
+                if (j - l < h - j) {
+                    pilha.empilhar(j + 1, h);
+                    pilha.empilhar(l, j);
+                } else {
+                    pilha.empilhar(l, j);
+                    pilha.empilhar(j + 1, h);
+                }
+            }
+        }
+        pilha.liberar();
+    }
+
+    /**
+     * Particiona {@code [low, high]} pelo esquema de Hoare, com pivô mediana
+     * de 3. Também é a partição do {@link Ordenacao.IntroSort.IntroSort}.
+     *
+     * @param chaves As chaves de ordenação, na mesma ordem de {@code linhas}.
+     * @param linhas A visão com os índices das linhas.
+     * @param low    O primeiro índice do intervalo.
+     * @param high   O último índice do intervalo, maior que {@code low}.
+     * @return O índice {@code j}, com {@code low <= j < high}, tal que as
+     *         chaves de {@code [low, j]} são menores ou iguais ao pivô e as de
+     *         {@code [j + 1, high]} são maiores ou iguais.
+     */
+    public static int partition(int[] chaves, int[] linhas, int low, int high) {
+        int mid = (low + high) >>> 1;
+
+        // Ordena low, mid e high entre si; a mediana fica em mid
+        if (Contadores.comparou(chaves[mid] < chaves[low])) {
+            swap(chaves, linhas, low, mid);
+        }
+        if (Contadores.comparou(chaves[high] < chaves[low])) {
+            swap(chaves, linhas, low, high);
+        }
+        if (Contadores.comparou(chaves[high] < chaves[mid])) {
+            swap(chaves, linhas, mid, high);
+        }
+
+        int pivot = chaves[mid];
+        int i = low - 1;
+        int j = high + 1;
+        while (true) {
+            do {
+                i++;
+            } while (Contadores.comparou(chaves[i] < pivot));
+            do {
+                j--;
+            } while (Contadores.comparou(chaves[j] > pivot));
+            if (i >= j) {
+                return j;
+            }
+            swap(chaves, linhas, i, j);
+        }
+    }
+
+    /**
+     * Troca duas posições das chaves e da visão.
+     *
+     * @param chaves As chaves de ordenação.
+     * @param linhas A visão com os índices das linhas.
+     * @param i      O índice da primeira posição.
+     * @param j      O índice da segunda posição.
+     */
+    private static void swap(int[] chaves, int[] linhas, int i, int j) {
+        Contadores.troca();
+        int temp = chaves[i];
+        chaves[i] = chaves[j];
+        chaves[j] = temp;
+
+        temp = linhas[i];
+        linhas[i] = linhas[j];
+        linhas[j] = temp;
+    }
+
+    /**
+     * Tarefa que ordena o intervalo {@code [low, high]}.
+     */
+    private static class Tarefa extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] chaves;
+        private final int[] linhas;
+        private final int low;
+        private final int high;
+        private final int limite;
+
+        Tarefa(int[] chaves, int[] linhas, int low, int high, int limite) {
+            this.chaves = chaves;
+            this.linhas = linhas;
+            this.low = low;
+            this.high = high;
+            this.limite = limite;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low + 1 <= limite) {
+                quickSort(chaves, linhas, low, high);
+                return;
+            }
+            int j = partition(chaves, linhas, low, high);
+            invokeAll(new Tarefa(chaves, linhas, low, j, limite), new Tarefa(chaves, linhas, j + 1, high, limite));
+        }
+    }
+}
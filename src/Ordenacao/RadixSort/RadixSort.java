@@ -0,0 +1,207 @@
+package Ordenacao.RadixSort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+import Ordenacao.Contadores;
+import Ordenacao.Paralelismo;
+import Ordenacao.Sorter;
+
+/**
+ * A classe {@code RadixSort} implementa o Radix Sort LSD sobre pares (chave,
+ * linha), com quatro passadas de 8 bits. Ao contrário do {@code CountingSort},
+ * a memória não depende do intervalo das chaves: além de um buffer do tamanho
+ * da entrada, usado alternadamente com os arrays originais entre as passadas,
+ * cada bloco guarda apenas um histograma de 256 posições.
+ * <p>
+ * Entradas maiores que {@link Paralelismo#limiteSequencial()} são divididas em
+ * blocos, um por thread do pool: cada bloco conta os seus dígitos em paralelo,
+ * as posições de cada (dígito, bloco) saem de uma soma de prefixos e cada
+ * bloco distribui os seus elementos em paralelo. A ordenação é estável, e
+ * passadas em que todas as chaves têm o mesmo dígito são puladas (para
+ * attendance e full_date, os bytes mais altos).
+ */
+public class RadixSort implements Sorter {
+
+    private static final int BITS = 8;
+    private static final int BASE = 1 << BITS;
+    private static final int MASCARA = BASE - 1;
+    /** Inverte o bit de sinal para que chaves negativas venham antes das positivas. */
+    private static final int SINAL = 0x80000000;
+
+    @Override
+    public String nome() {
+        return "RadixSort";
+    }
+
+    @Override
+    public void ordenar(int[] chaves, int[] linhas) {
+        int n = linhas.length;
+        if (n < 2) {
+            return;
+        }
+        int limite = Paralelismo.limiteSequencial();
+        int blocos = n <= limite ? 1 : Math.min(Paralelismo.pool().getParallelism(), (n + limite - 1) / limite);
+        blocos = Math.max(1, blocos);
+
+        int[] auxChaves = new int[n];
+        int[] auxLinhas = new int[n];
+        Contadores.alocou(8L * n + 4L * BASE * blocos);
+        int[][] contagens = new int[blocos][BASE];
+
+        int[] origemChaves = chaves;
+        int[] origemLinhas = linhas;
+        int[] destinoChaves = auxChaves;
+        int[] destinoLinhas = auxLinhas;
+
+        for (int deslocamento = 0; deslocamento < Integer.SIZE; deslocamento += BITS) {
+            contar(origemChaves, contagens, blocos, deslocamento);
+            if (passadaTrivial(contagens, n)) {
+                continue;
+            }
+            posicoes(contagens);
+            distribuir(origemChaves, origemLinhas, destinoChaves, destinoLinhas, contagens, blocos, deslocamento);
+
+            int[] temp = origemChaves;
+            origemChaves = destinoChaves;
+            destinoChaves = temp;
+            temp = origemLinhas;
+            origemLinhas = destinoLinhas;
+            destinoLinhas = temp;
+        }
+
+        if (origemChaves != chaves) {
+            System.arraycopy(origemChaves, 0, chaves, 0, n);
+            System.arraycopy(origemLinhas, 0, linhas, 0, n);
+        }
+        Contadores.liberou(8L * n + 4L * BASE * blocos);
+    }
+
+    /**
+     * Devolve a permutação que ordena as chaves, sem alterá-las: a posição
+     * {@code i} do resultado é o índice da {@code i}-ésima menor chave.
+     *
+     * @param chaves As chaves a serem ordenadas.
+     * @return Os índices de {@code chaves} em ordem crescente de chave.
+     */
+    public int[] permutacao(int[] chaves) {
+        int[] indices = new int[chaves.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        ordenar(chaves.clone(), indices);
+        return indices;
+    }
+
+    private static int digito(int chave, int deslocamento) {
+        return ((chave ^ SINAL) >>> deslocamento) & MASCARA;
+    }
+
+    /**
+     * Preenche o histograma de cada bloco com os dígitos da passada.
+     */
+    private static void contar(int[] chaves, int[][] contagens, int blocos, int deslocamento) {
+        int n = chaves.length;
+        executarEmBlocos(blocos, bloco -> {
+            int[] contagem = contagens[bloco];
+            Arrays.fill(contagem, 0);
+            int fim = fim(n, blocos, bloco);
+            for (int i = inicio(n, blocos, bloco); i < fim; i++) {
+                contagem[digito(chaves[i], deslocamento)]++;
+            }
+        });
+    }
+
+    /**
+     * @return Verdadeiro se todas as chaves têm o mesmo dígito na passada, que
+     *         então não muda a ordem.
+     */
+    private static boolean passadaTrivial(int[][] contagens, int n) {
+        for (int d = 0; d < BASE; d++) {
+            int total = 0;
+            for (int[] contagem : contagens) {
+                total += contagem[d];
+            }
+            if (total == n) {
+                return true;
+            }
+            if (total != 0) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Troca as contagens pela posição inicial de cada (dígito, bloco) no
+     * destino: todos os elementos do dígito {@code d} vêm antes dos de
+     * {@code d + 1} e, dentro de um dígito, os blocos ficam na ordem original.
+     */
+    private static void posicoes(int[][] contagens) {
+        int posicao = 0;
+        for (int d = 0; d < BASE; d++) {
+            for (int[] contagem : contagens) {
+                int quantidade = contagem[d];
+                contagem[d] = posicao;
+                posicao += quantidade;
+            }
+        }
+    }
+
+    private static void distribuir(int[] origemChaves, int[] origemLinhas, int[] destinoChaves,
+            int[] destinoLinhas, int[][] posicoes, int blocos, int deslocamento) {
+        int n = origemChaves.length;
+        executarEmBlocos(blocos, bloco -> {
+            int[] posicao = posicoes[bloco];
+            int fim = fim(n, blocos, bloco);
+            for (int i = inicio(n, blocos, bloco); i < fim; i++) {
+                Contadores.movimento();
+                int chave = origemChaves[i];
+                int destino = posicao[digito(chave, deslocamento)]++;
+                destinoChaves[destino] = chave;
+                destinoLinhas[destino] = origemLinhas[i];
+            }
+        });
+    }
+
+    private static int inicio(int n, int blocos, int bloco) {
+        return (int) ((long) n * bloco / blocos);
+    }
+
+    private static int fim(int n, int blocos, int bloco) {
+        return (int) ((long) n * (bloco + 1) / blocos);
+    }
+
+    /**
+     * Executa a ação para cada bloco, em paralelo no pool quando há mais de um.
+     */
+    private static void executarEmBlocos(int blocos, IntConsumer acao) {
+        if (blocos == 1) {
+            acao.accept(0);
+            return;
+        }
+        List<RecursiveAction> tarefas = new ArrayList<>(blocos);
+        for (int bloco = 0; bloco < blocos; bloco++) {
+            int b = bloco;
+            tarefas.add(new RecursiveAction() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected void compute() {
+                    acao.accept(b);
+                }
+            });
+        }
+        Paralelismo.pool().invoke(new RecursiveAction() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void compute() {
+                invokeAll(tarefas);
+            }
+        });
+    }
+}
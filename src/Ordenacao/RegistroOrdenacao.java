@@ -0,0 +1,71 @@
+package Ordenacao;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import Ordenacao.CountingSort.CountingSort;
+import Ordenacao.HeapSort.HeapSort;
+import Ordenacao.InsertionSort.InsertionSort;
+import Ordenacao.InsertionSortBinario.InsertionSortBinario;
+import Ordenacao.IntroSort.IntroSort;
+import Ordenacao.MergeSort.MergeSort;
+import Ordenacao.MergeSortBottomUp.MergeSortBottomUp;
+import Ordenacao.MergeSortParalelo.MergeSortParalelo;
+import Ordenacao.QuickSort.QuickSort;
+import Ordenacao.QuickSortDualPivot.QuickSortDualPivot;
+import Ordenacao.QuickSortMediana3.QuickSortMediana3;
+import Ordenacao.QuickSortParalelo.QuickSortParalelo;
+import Ordenacao.RadixSort.RadixSort;
+import Ordenacao.SelectionSort.SelectionSort;
+import Ordenacao.TimSort.TimSort;
+
+/**
+ * Registro dos algoritmos de ordenação disponíveis, na ordem em que aparecem
+ * no menu. O {@code Main} e os benchmarks percorrem este registro em vez de
+ * conhecer cada classe.
+ */
+public final class RegistroOrdenacao {
+
+    private static final List<Sorter> ALGORITMOS = Collections.unmodifiableList(Arrays.asList(
+            new InsertionSort(),
+            new SelectionSort(),
+            new CountingSort(),
+            new HeapSort(),
+            new MergeSort(),
+            new QuickSort(),
+            new QuickSortMediana3(),
+            new MergeSortParalelo(),
+            new QuickSortParalelo(),
+            new RadixSort(),
+            new IntroSort(),
+            new QuickSortDualPivot(),
+            new TimSort(),
+            new InsertionSortBinario(),
+            new MergeSortBottomUp()));
+
+    private RegistroOrdenacao() {
+    }
+
+    /**
+     * @return Os algoritmos registrados, na ordem do menu.
+     */
+    public static List<Sorter> algoritmos() {
+        return ALGORITMOS;
+    }
+
+    /**
+     * Procura um algoritmo pelo nome.
+     *
+     * @param nome O nome do algoritmo, como em {@link Sorter#nome()}.
+     * @return O algoritmo, ou {@code null} se não houver um com esse nome.
+     */
+    public static Sorter buscar(String nome) {
+        for (Sorter sorter : ALGORITMOS) {
+            if (sorter.nome().equalsIgnoreCase(nome)) {
+                return sorter;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,57 @@
+package Ordenacao.SelectionSort;
+
+import Ordenacao.Contadores;
+import Ordenacao.Sorter;
+
+/**
+ * A classe {@code SelectionSort} implementa o algoritmo de ordenação
+ * Selection Sort sobre pares (chave, linha).
+ */
+public class SelectionSort implements Sorter {
+
+    @Override
+    public String nome() {
+        return "SelectionSort";
+    }
+
+    /**
+     * Realiza a ordenação usando o algoritmo Selection Sort.
+     *
+     * @param chaves As chaves de ordenação, na mesma ordem de {@code linhas}.
+     * @param linhas A visão com os índices das linhas a serem ordenadas.
+     */
+    @Override
+    public void ordenar(int[] chaves, int[] linhas) {
+        int n = linhas.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            for (int j = i + 1; j < n; j++) {
+                if (Contadores.comparou(chaves[j] < chaves[minIndex])) {
+                    minIndex = j;
+                }
+            }
+            if (minIndex != i) {
+                swap(chaves, linhas, i, minIndex);
+            }
+        }
+    }
+
+    /**
+     * Troca duas posições das chaves e da visão.
+     *
+     * @param chaves As chaves de ordenação.
+     * @param linhas A visão com os índices das linhas.
+     * @param i      O índice da primeira posição.
+     * @param j      O índice da segunda posição.
+     */
+    private void swap(int[] chaves, int[] linhas, int i, int j) {
+        Contadores.troca();
+        int temp = chaves[i];
+        chaves[i] = chaves[j];
+        chaves[j] = temp;
+
+        temp = linhas[i];
+        linhas[i] = linhas[j];
+        linhas[j] = temp;
+    }
+}
@@ -0,0 +1,26 @@
+package Ordenacao;
+
+/**
+ * Um {@code Sorter} é um algoritmo de ordenação sobre pares (chave, linha).
+ * As chaves vêm de uma {@link Chave} (venue, attendance ou full_date) já
+ * convertida em inteiros, e a visão {@code linhas} guarda os índices das
+ * linhas no {@link Dados.MatchStore}. Os dois arrays são reordenados juntos,
+ * em ordem crescente de chave.
+ */
+public interface Sorter {
+
+    /**
+     * @return O nome do algoritmo, usado no menu, nas mensagens e na pasta de
+     *         resultados (por exemplo, "MergeSort").
+     */
+    String nome();
+
+    /**
+     * Ordena as chaves em ordem crescente, aplicando a mesma permutação à
+     * visão.
+     *
+     * @param chaves As chaves de ordenação, na mesma ordem de {@code linhas}.
+     * @param linhas A visão com os índices das linhas a serem ordenadas.
+     */
+    void ordenar(int[] chaves, int[] linhas);
+}
@@ -0,0 +1,569 @@
+package Ordenacao.TimSort;
+
+import Ordenacao.Contadores;
+import Ordenacao.Sorter;
+import Ordenacao.InsertionSortBinario.InsertionSortBinario;
+
+/**
+ * A classe {@code TimSort} implementa um Merge Sort natural, no estilo do
+ * TimSort, sobre pares (chave, linha). Ele aproveita a ordem que já existe na
+ * entrada:
+ * <ul>
+ * <li>a entrada é percorrida em <em>runs</em>, trechos já crescentes (não
+ * estritamente) ou estritamente decrescentes; os decrescentes são invertidos
+ * no lugar, o que não quebra a estabilidade;</li>
+ * <li>runs curtas são estendidas até um tamanho mínimo com a inserção binária
+ * do {@link InsertionSortBinario};</li>
+ * <li>as runs ficam em uma pilha e são intercaladas mantendo os seus tamanhos
+ * equilibrados;</li>
+ * <li>a intercalação usa <em>galope</em>: quando uma das runs vence várias
+ * comparações seguidas, o ponto de parada é procurado por busca exponencial e
+ * o bloco inteiro é copiado de uma vez.</li>
+ * </ul>
+ * Uma entrada já ordenada (o caso melhor) ou estritamente decrescente é uma
+ * única run e custa O(n); o pior caso continua O(n log n). A ordenação é
+ * estável, e a memória auxiliar é de no máximo n/2 pares.
+ */
+public class TimSort implements Sorter {
+
+    /** Abaixo deste tamanho, a entrada é ordenada só com inserção binária. */
+    private static final int MIN_MERGE = 32;
+
+    /** Vitórias seguidas de uma run a partir das quais o galope começa. */
+    private static final int MIN_GALLOP = 7;
+
+    @Override
+    public String nome() {
+        return "TimSort";
+    }
+
+    @Override
+    public void ordenar(int[] chaves, int[] linhas) {
+        int n = linhas.length;
+        if (n < 2) {
+            return;
+        }
+        if (n < MIN_MERGE) {
+            int run = contarRun(chaves, linhas, 0, n);
+            InsertionSortBinario.ordenar(chaves, linhas, 0, run, n);
+            return;
+        }
+
+        Intercalacao intercalacao = new Intercalacao(chaves, linhas);
+        int minRun = tamanhoMinimoRun(n);
+        int low = 0;
+        int restantes = n;
+        do {
+            int run = contarRun(chaves, linhas, low, low + restantes);
+            if (run < minRun) {
+                int estendida = Math.min(restantes, minRun);
+                InsertionSortBinario.ordenar(chaves, linhas, low, low + run, low + estendida);
+                run = estendida;
+            }
+            intercalacao.empilhar(low, run);
+            intercalacao.equilibrar();
+            low += run;
+            restantes -= run;
+        } while (restantes != 0);
+        intercalacao.intercalarTudo();
+        intercalacao.liberar();
+    }
+
+    /**
+     * Mede a run que começa em {@code low}, invertendo-a se for estritamente
+     * decrescente.
+     *
+     * @return O tamanho da run, que passa a ser crescente.
+     */
+    private static int contarRun(int[] chaves, int[] linhas, int low, int high) {
+        int fim = low + 1;
+        if (fim == high) {
+            return 1;
+        }
+        if (Contadores.comparou(chaves[fim++] < chaves[low])) {
+            while (fim < high && Contadores.comparou(chaves[fim] < chaves[fim - 1])) {
+                fim++;
+            }
+            inverter(chaves, linhas, low, fim);
+        } else {
+            while (fim < high && Contadores.comparou(chaves[fim] >= chaves[fim - 1])) {
+                fim++;
+            }
+        }
+        return fim - low;
+    }
+
+    private static void inverter(int[] chaves, int[] linhas, int low, int high) {
+        high--;
+        while (low < high) {
+            Contadores.troca();
+            int temp = chaves[low];
+            chaves[low] = chaves[high];
+            chaves[high] = temp;
+
+            temp = linhas[low];
+            linhas[low++] = linhas[high];
+            linhas[high--] = temp;
+        }
+    }
+
+    /**
+     * Tamanho mínimo das runs: um valor entre {@code MIN_MERGE / 2} e
+     * {@code MIN_MERGE} tal que {@code n / minRun} seja uma potência de 2 ou
+     * fique um pouco abaixo de uma, para que as intercalações sejam
+     * equilibradas.
+     */
+    private static int tamanhoMinimoRun(int n) {
+        int resto = 0;
+        while (n >= MIN_MERGE) {
+            resto |= n & 1;
+            n >>= 1;
+        }
+        return n + resto;
+    }
+
+    /**
+     * Posição de inserção de {@code key} na run ordenada
+     * {@code a[base, base + tamanho)}, antes das chaves iguais a ela. A busca
+     * começa em {@code base + dica} e avança em saltos de 1, 3, 7, 15...
+     * posições antes da busca binária.
+     *
+     * @return {@code k} tal que {@code a[base + k - 1] < key <= a[base + k]}.
+     */
+    private static int galoparEsquerda(int key, int[] a, int base, int tamanho, int dica) {
+        int anterior = 0;
+        int salto = 1;
+        if (Contadores.comparou(key > a[base + dica])) {
+            int maximo = tamanho - dica;
+            while (salto < maximo && Contadores.comparou(key > a[base + dica + salto])) {
+                anterior = salto;
+                salto = (salto << 1) + 1;
+                if (salto <= 0) {
+                    salto = maximo;
+                }
+            }
+            salto = Math.min(salto, maximo);
+            anterior += dica;
+            salto += dica;
+        } else {
+            int maximo = dica + 1;
+            while (salto < maximo && Contadores.comparou(key <= a[base + dica - salto])) {
+                anterior = salto;
+                salto = (salto << 1) + 1;
+                if (salto <= 0) {
+                    salto = maximo;
+                }
+            }
+            salto = Math.min(salto, maximo);
+            int temp = anterior;
+            anterior = dica - salto;
+            salto = dica - temp;
+        }
+
+        // a[base + anterior] < key <= a[base + salto]
+        anterior++;
+        while (anterior < salto) {
+            int meio = anterior + ((salto - anterior) >>> 1);
+            if (Contadores.comparou(key > a[base + meio])) {
+                anterior = meio + 1;
+            } else {
+                salto = meio;
+            }
+        }
+        return salto;
+    }
+
+    /**
+     * Como {@link #galoparEsquerda}, mas a posição fica depois das chaves
+     * iguais a {@code key}.
+     *
+     * @return {@code k} tal que {@code a[base + k - 1] <= key < a[base + k]}.
+     */
+    private static int galoparDireita(int key, int[] a, int base, int tamanho, int dica) {
+        int anterior = 0;
+        int salto = 1;
+        if (Contadores.comparou(key < a[base + dica])) {
+            int maximo = dica + 1;
+            while (salto < maximo && Contadores.comparou(key < a[base + dica - salto])) {
+                anterior = salto;
+                salto = (salto << 1) + 1;
+                if (salto <= 0) {
+                    salto = maximo;
+                }
+            }
+            salto = Math.min(salto, maximo);
+            int temp = anterior;
+            anterior = dica - salto;
+            salto = dica - temp;
+        } else {
+            int maximo = tamanho - dica;
+            while (salto < maximo && Contadores.comparou(key >= a[base + dica + salto])) {
+                anterior = salto;
+                salto = (salto << 1) + 1;
+                if (salto <= 0) {
+                    salto = maximo;
+                }
+            }
+            salto = Math.min(salto, maximo);
+            anterior += dica;
+            salto += dica;
+        }
+
+        // a[base + anterior] <= key < a[base + salto]
+        anterior++;
+        while (anterior < salto) {
+            int meio = anterior + ((salto - anterior) >>> 1);
+            if (Contadores.comparou(key < a[base + meio])) {
+                salto = meio;
+            } else {
+                anterior = meio + 1;
+            }
+        }
+        return salto;
+    }
+
+    /**
+     * A pilha de runs de uma ordenação e o buffer auxiliar das intercalações.
+     */
+    private static final class Intercalacao {
+
+        private final int[] chaves;
+        private final int[] linhas;
+        private int[] auxChaves = new int[0];
+        private int[] auxLinhas = new int[0];
+        private int minGalope = MIN_GALLOP;
+
+        // 49 runs bastam para qualquer array de tamanho int (os tamanhos
+        // crescem no mínimo como a sequência de Fibonacci)
+        private final int[] inicioRun = new int[49];
+        private final int[] tamanhoRun = new int[49];
+        private int runs;
+
+        Intercalacao(int[] chaves, int[] linhas) {
+            this.chaves = chaves;
+            this.linhas = linhas;
+        }
+
+        void empilhar(int inicio, int tamanho) {
+            inicioRun[runs] = inicio;
+            tamanhoRun[runs++] = tamanho;
+        }
+
+        /**
+         * Intercala runs do topo da pilha até que, para as runs X, Y, Z do topo,
+         * valham {@code X > Y + Z} e {@code Y > Z}.
+         */
+        void equilibrar() {
+            while (runs > 1) {
+                int n = runs - 2;
+                if (n > 0 && tamanhoRun[n - 1] <= tamanhoRun[n] + tamanhoRun[n + 1]
+                        || n > 1 && tamanhoRun[n - 2] <= tamanhoRun[n] + tamanhoRun[n - 1]) {
+                    if (tamanhoRun[n - 1] < tamanhoRun[n + 1]) {
+                        n--;
+                    }
+                } else if (tamanhoRun[n] > tamanhoRun[n + 1]) {
+                    break;
+                }
+                intercalarEm(n);
+            }
+        }
+
+        /**
+         * Intercala todas as runs da pilha, ao final da ordenação.
+         */
+        void intercalarTudo() {
+            while (runs > 1) {
+                int n = runs - 2;
+                if (n > 0 && tamanhoRun[n - 1] < tamanhoRun[n + 1]) {
+                    n--;
+                }
+                intercalarEm(n);
+            }
+        }
+
+        void liberar() {
+            Contadores.liberou(8L * auxChaves.length);
+        }
+
+        /**
+         * Intercala as runs {@code i} e {@code i + 1} da pilha. Os elementos
+         * da primeira run menores ou iguais ao primeiro da segunda, e os da
+         * segunda maiores ou iguais ao último da primeira, já estão no lugar e
+         * ficam de fora.
+         */
+        private void intercalarEm(int i) {
+            int inicio1 = inicioRun[i];
+            int tamanho1 = tamanhoRun[i];
+            int inicio2 = inicioRun[i + 1];
+            int tamanho2 = tamanhoRun[i + 1];
+
+            tamanhoRun[i] = tamanho1 + tamanho2;
+            if (i == runs - 3) {
+                inicioRun[i + 1] = inicioRun[i + 2];
+                tamanhoRun[i + 1] = tamanhoRun[i + 2];
+            }
+            runs--;
+
+            int k = galoparDireita(chaves[inicio2], chaves, inicio1, tamanho1, 0);
+            inicio1 += k;
+            tamanho1 -= k;
+            if (tamanho1 == 0) {
+                return;
+            }
+            tamanho2 = galoparEsquerda(chaves[inicio1 + tamanho1 - 1], chaves, inicio2, tamanho2, tamanho2 - 1);
+            if (tamanho2 == 0) {
+                return;
+            }
+
+            if (tamanho1 <= tamanho2) {
+                intercalarDaEsquerda(inicio1, tamanho1, inicio2, tamanho2);
+            } else {
+                intercalarDaDireita(inicio1, tamanho1, inicio2, tamanho2);
+            }
+        }
+
+        private void garantirAuxiliar(int tamanho) {
+            if (auxChaves.length < tamanho) {
+                Contadores.liberou(8L * auxChaves.length);
+                int novo = Math.max(tamanho, Math.min(chaves.length >>> 1, 2 * auxChaves.length));
+                auxChaves = new int[novo];
+                auxLinhas = new int[novo];
+                Contadores.alocou(8L * novo);
+            }
+        }
+
+        /**
+         * Intercala duas runs vizinhas copiando a primeira (a menor) para o
+         * buffer e preenchendo da esquerda para a direita. O primeiro elemento
+         * da segunda run é menor que todos da primeira, e o último da
+         * primeira é maior que todos da segunda.
+         */
+        private void intercalarDaEsquerda(int inicio1, int tamanho1, int inicio2, int tamanho2) {
+            int[] a = chaves;
+            int[] l = linhas;
+            garantirAuxiliar(tamanho1);
+            int[] ac = auxChaves;
+            int[] al = auxLinhas;
+            System.arraycopy(a, inicio1, ac, 0, tamanho1);
+            System.arraycopy(l, inicio1, al, 0, tamanho1);
+
+            int cursor1 = 0;
+            int cursor2 = inicio2;
+            int destino = inicio1;
+            Contadores.movimento();
+            a[destino] = a[cursor2];
+            l[destino++] = l[cursor2++];
+            if (--tamanho2 == 0) {
+                copiar(ac, al, cursor1, destino, tamanho1);
+                return;
+            }
+            if (tamanho1 == 1) {
+                copiar(a, l, cursor2, destino, tamanho2);
+                Contadores.movimento();
+                a[destino + tamanho2] = ac[cursor1];
+                l[destino + tamanho2] = al[cursor1];
+                return;
+            }
+
+            int minGalope = this.minGalope;
+            externo:
+            while (true) {
+                int vitorias1 = 0;
+                int vitorias2 = 0;
+
+                // Um a um, até que uma run vença minGalope vezes seguidas
+                do {
+                    Contadores.movimento();
+                    if (Contadores.comparou(a[cursor2] < ac[cursor1])) {
+                        a[destino] = a[cursor2];
+                        l[destino++] = l[cursor2++];
+                        vitorias2++;
+                        vitorias1 = 0;
+                        if (--tamanho2 == 0) {
+                            break externo;
+                        }
+                    } else {
+                        a[destino] = ac[cursor1];
+                        l[destino++] = al[cursor1++];
+                        vitorias1++;
+                        vitorias2 = 0;
+                        if (--tamanho1 == 1) {
+                            break externo;
+                        }
+                    }
+                } while ((vitorias1 | vitorias2) < minGalope);
+
+                // Galope, enquanto compensar
+                do {
+                    vitorias1 = galoparDireita(a[cursor2], ac, cursor1, tamanho1, 0);
+                    if (vitorias1 != 0) {
+                        copiar(ac, al, cursor1, destino, vitorias1);
+                        destino += vitorias1;
+                        cursor1 += vitorias1;
+                        tamanho1 -= vitorias1;
+                        if (tamanho1 <= 1) {
+                            break externo;
+                        }
+                    }
+                    Contadores.movimento();
+                    a[destino] = a[cursor2];
+                    l[destino++] = l[cursor2++];
+                    if (--tamanho2 == 0) {
+                        break externo;
+                    }
+
+                    vitorias2 = galoparEsquerda(ac[cursor1], a, cursor2, tamanho2, 0);
+                    if (vitorias2 != 0) {
+                        copiar(a, l, cursor2, destino, vitorias2);
+                        destino += vitorias2;
+                        cursor2 += vitorias2;
+                        tamanho2 -= vitorias2;
+                        if (tamanho2 == 0) {
+                            break externo;
+                        }
+                    }
+                    Contadores.movimento();
+                    a[destino] = ac[cursor1];
+                    l[destino++] = al[cursor1++];
+                    if (--tamanho1 == 1) {
+                        break externo;
+                    }
+                    minGalope--;
+                } while (vitorias1 >= MIN_GALLOP || vitorias2 >= MIN_GALLOP);
+                minGalope = Math.max(minGalope, 0) + 2;
+            }
+            this.minGalope = Math.max(minGalope, 1);
+
+            if (tamanho1 == 1) {
+                copiar(a, l, cursor2, destino, tamanho2);
+                Contadores.movimento();
+                a[destino + tamanho2] = ac[cursor1];
+                l[destino + tamanho2] = al[cursor1];
+            } else {
+                copiar(ac, al, cursor1, destino, tamanho1);
+            }
+        }
+
+        /**
+         * Como {@link #intercalarDaEsquerda}, mas copia a segunda run (a menor)
+         * para o buffer e preenche da direita para a esquerda.
+         */
+        private void intercalarDaDireita(int inicio1, int tamanho1, int inicio2, int tamanho2) {
+            int[] a = chaves;
+            int[] l = linhas;
+            garantirAuxiliar(tamanho2);
+            int[] ac = auxChaves;
+            int[] al = auxLinhas;
+            System.arraycopy(a, inicio2, ac, 0, tamanho2);
+            System.arraycopy(l, inicio2, al, 0, tamanho2);
+
+            int cursor1 = inicio1 + tamanho1 - 1;
+            int cursor2 = tamanho2 - 1;
+            int destino = inicio2 + tamanho2 - 1;
+            Contadores.movimento();
+            a[destino] = a[cursor1];
+            l[destino--] = l[cursor1--];
+            if (--tamanho1 == 0) {
+                copiar(ac, al, 0, destino - (tamanho2 - 1), tamanho2);
+                return;
+            }
+            if (tamanho2 == 1) {
+                destino -= tamanho1;
+                cursor1 -= tamanho1;
+                copiar(a, l, cursor1 + 1, destino + 1, tamanho1);
+                Contadores.movimento();
+                a[destino] = ac[cursor2];
+                l[destino] = al[cursor2];
+                return;
+            }
+
+            int minGalope = this.minGalope;
+            externo:
+            while (true) {
+                int vitorias1 = 0;
+                int vitorias2 = 0;
+
+                do {
+                    Contadores.movimento();
+                    if (Contadores.comparou(ac[cursor2] < a[cursor1])) {
+                        a[destino] = a[cursor1];
+                        l[destino--] = l[cursor1--];
+                        vitorias1++;
+                        vitorias2 = 0;
+                        if (--tamanho1 == 0) {
+                            break externo;
+                        }
+                    } else {
+                        a[destino] = ac[cursor2];
+                        l[destino--] = al[cursor2--];
+                        vitorias2++;
+                        vitorias1 = 0;
+                        if (--tamanho2 == 1) {
+                            break externo;
+                        }
+                    }
+                } while ((vitorias1 | vitorias2) < minGalope);
+
+                do {
+                    vitorias1 = tamanho1 - galoparDireita(ac[cursor2], a, inicio1, tamanho1, tamanho1 - 1);
+                    if (vitorias1 != 0) {
+                        destino -= vitorias1;
+                        cursor1 -= vitorias1;
+                        tamanho1 -= vitorias1;
+                        copiar(a, l, cursor1 + 1, destino + 1, vitorias1);
+                        if (tamanho1 == 0) {
+                            break externo;
+                        }
+                    }
+                    Contadores.movimento();
+                    a[destino] = ac[cursor2];
+                    l[destino--] = al[cursor2--];
+                    if (--tamanho2 == 1) {
+                        break externo;
+                    }
+
+                    vitorias2 = tamanho2 - galoparEsquerda(a[cursor1], ac, 0, tamanho2, tamanho2 - 1);
+                    if (vitorias2 != 0) {
+                        destino -= vitorias2;
+                        cursor2 -= vitorias2;
+                        tamanho2 -= vitorias2;
+                        copiar(ac, al, cursor2 + 1, destino + 1, vitorias2);
+                        if (tamanho2 <= 1) {
+                            break externo;
+                        }
+                    }
+                    Contadores.movimento();
+                    a[destino] = a[cursor1];
+                    l[destino--] = l[cursor1--];
+                    if (--tamanho1 == 0) {
+                        break externo;
+                    }
+                    minGalope--;
+                } while (vitorias1 >= MIN_GALLOP || vitorias2 >= MIN_GALLOP);
+                minGalope = Math.max(minGalope, 0) + 2;
+            }
+            this.minGalope = Math.max(minGalope, 1);
+
+            if (tamanho2 == 1) {
+                destino -= tamanho1;
+                cursor1 -= tamanho1;
+                copiar(a, l, cursor1 + 1, destino + 1, tamanho1);
+                Contadores.movimento();
+                a[destino] = ac[cursor2];
+                l[destino] = al[cursor2];
+            } else {
+                copiar(ac, al, 0, destino - (tamanho2 - 1), tamanho2);
+            }
+        }
+
+        /**
+         * Copia {@code quantidade} pares de {@code (origemChaves, origemLinhas)}
+         * para as chaves e a visão ordenadas.
+         */
+        private void copiar(int[] origemChaves, int[] origemLinhas, int de, int para, int quantidade) {
+            Contadores.movimento(quantidade);
+            System.arraycopy(origemChaves, de, chaves, para, quantidade);
+            System.arraycopy(origemLinhas, de, linhas, para, quantidade);
+        }
+    }
+}
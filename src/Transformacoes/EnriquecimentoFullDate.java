@@ -0,0 +1,46 @@
+package Transformacoes;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Etapa que acrescenta a coluna {@code full_date} (dd/MM/yyyy), montada a
+ * partir das colunas {@code date} e {@code year} (transformação T2).
+ */
+public class EnriquecimentoFullDate implements Etapa {
+
+    private static final int DATE_INDEX = 3;
+    private static final int YEAR_INDEX = 4;
+
+    // SimpleDateFormat não é thread-safe, e o pipeline aplica as etapas em paralelo
+    private final ThreadLocal<SimpleDateFormat> inputFormat =
+            ThreadLocal.withInitial(() -> new SimpleDateFormat("EEEE, MMMM d, yyyy", Locale.ENGLISH));
+    private final ThreadLocal<SimpleDateFormat> outputFormat =
+            ThreadLocal.withInitial(() -> new SimpleDateFormat("dd/MM/yyyy"));
+
+    @Override
+    public String[] cabecalho(String[] headers) {
+        String[] enriquecido = Arrays.copyOf(headers, headers.length + 1);
+        enriquecido[headers.length] = "full_date";
+        return enriquecido;
+    }
+
+    /**
+     * Acrescenta a data completa à linha. Linhas cuja data não pode ser
+     * interpretada são descartadas.
+     */
+    @Override
+    public String[] aplicar(String[] values) {
+        String dateStr = values[DATE_INDEX].replace("\"", "").trim() + ", " + values[YEAR_INDEX].trim();
+        try {
+            String[] enriquecido = Arrays.copyOf(values, values.length + 1);
+            enriquecido[values.length] = outputFormat.get().format(inputFormat.get().parse(dateStr));
+            return enriquecido;
+        } catch (ParseException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package Transformacoes;
+
+/**
+ * Uma {@code Etapa} é um passo do {@link PipelineTransformacao}. Cada etapa
+ * recebe a linha já dividida em campos pela etapa anterior e devolve a linha
+ * transformada, ou {@code null} quando a linha deve ser descartada.
+ * <p>
+ * O cabeçalho é transformado antes de qualquer linha, em uma única thread; já
+ * {@link #aplicar(String[])} é chamado em paralelo, então não deve alterar o
+ * estado da etapa.
+ */
+public interface Etapa {
+
+    /**
+     * Transforma o cabeçalho do arquivo.
+     *
+     * @param headers Os nomes das colunas recebidos da etapa anterior.
+     * @return Os nomes das colunas após a etapa.
+     */
+    default String[] cabecalho(String[] headers) {
+        return headers;
+    }
+
+    /**
+     * Aplica a etapa sobre uma linha de dados.
+     *
+     * @param values Os campos da linha recebidos da etapa anterior.
+     * @return Os campos transformados, ou {@code null} para descartar a linha.
+     */
+    String[] aplicar(String[] values);
+
+    /**
+     * Descreve a etapa e os seus parâmetros, para o carimbo do
+     * {@link PipelineTransformacao}: mudar um parâmetro (como a liga de um
+     * filtro) deve mudar a descrição, para que as saídas sejam refeitas.
+     *
+     * @return A descrição da etapa; por padrão, o nome da classe.
+     */
+    default String descricao() {
+        return getClass().getSimpleName();
+    }
+}
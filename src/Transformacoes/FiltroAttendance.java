@@ -0,0 +1,39 @@
+package Transformacoes;
+
+/**
+ * Etapa que mantém apenas as partidas com público acima de um mínimo
+ * (transformação F2). Partidas sem público informado são descartadas.
+ */
+public class FiltroAttendance implements Etapa {
+
+    private static final int ATTENDANCE_INDEX = 6;
+
+    private final int minimo;
+
+    /**
+     * @param minimo O público mínimo (exclusivo) para que a partida seja mantida.
+     */
+    public FiltroAttendance(int minimo) {
+        this.minimo = minimo;
+    }
+
+    @Override
+    public String[] aplicar(String[] values) {
+        String attendance = values[ATTENDANCE_INDEX];
+        int valor = 0;
+        boolean possuiDigito = false;
+        for (int i = 0; i < attendance.length(); i++) {
+            char c = attendance.charAt(i);
+            if (c >= '0' && c <= '9') {
+                valor = valor * 10 + (c - '0');
+                possuiDigito = true;
+            }
+        }
+        return possuiDigito && valor > minimo ? values : null;
+    }
+
+    @Override
+    public String descricao() {
+        return "FiltroAttendance " + minimo;
+    }
+}
@@ -0,0 +1,29 @@
+package Transformacoes;
+
+/**
+ * Etapa que mantém apenas as partidas de uma liga (transformação F1).
+ */
+public class FiltroLiga implements Etapa {
+
+    private static final int LEAGUE_INDEX = 8;
+
+    private final String liga;
+
+    /**
+     * @param liga O trecho que deve aparecer na coluna {@code league}, como
+     *             "English Premier League".
+     */
+    public FiltroLiga(String liga) {
+        this.liga = liga;
+    }
+
+    @Override
+    public String[] aplicar(String[] values) {
+        return values[LEAGUE_INDEX].contains(liga) ? values : null;
+    }
+
+    @Override
+    public String descricao() {
+        return "FiltroLiga " + liga;
+    }
+}
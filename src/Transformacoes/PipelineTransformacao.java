@@ -0,0 +1,292 @@
+package Transformacoes;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import Dados.LeitorCsvParalelo;
+import Dados.MatchStore;
+
+/**
+ * A classe {@code PipelineTransformacao} aplica uma sequência de
+ * {@link Etapa etapas} sobre o arquivo de partidas em uma única leitura.
+ * Cada linha é dividida em campos uma só vez e percorre as etapas em ordem;
+ * uma etapa pode descartar a linha, e as seguintes não a recebem.
+ * O resultado de uma etapa só é gravado em disco quando um arquivo de saída
+ * é informado para ela.
+ * <p>
+ * As saídas são escritas em arquivos {@code .tmp} e só substituem as
+ * anteriores (com uma renomeação atômica) quando o pipeline inteiro termina.
+ * Por último é gravado um carimbo ({@code <entrada>.etapas}, na pasta da
+ * primeira saída) com o tamanho e a data de modificação da entrada, a
+ * {@link Etapa#descricao() descrição} de cada etapa e o tamanho de cada
+ * saída; uma execução interrompida não deixa carimbo e é refeita na próxima.
+ */
+public class PipelineTransformacao {
+
+    private static final String EXTENSAO_TEMPORARIA = ".tmp";
+    private static final String EXTENSAO_CARIMBO = ".etapas";
+
+    private final String inputFile;
+    private final List<Etapa> etapas = new ArrayList<>();
+    private final List<String> saidas = new ArrayList<>();
+    private String saidaComSnapshot;
+
+    /**
+     * Cria um pipeline sobre o arquivo CSV de entrada.
+     *
+     * @param inputFile O arquivo CSV de entrada.
+     */
+    public PipelineTransformacao(String inputFile) {
+        this.inputFile = inputFile;
+    }
+
+    /**
+     * Adiciona uma etapa cujo resultado não é gravado.
+     *
+     * @param etapa A etapa a ser adicionada.
+     * @return Este pipeline, para encadear chamadas.
+     */
+    public PipelineTransformacao adicionarEtapa(Etapa etapa) {
+        return adicionarEtapa(etapa, null);
+    }
+
+    /**
+     * Adiciona uma etapa e, opcionalmente, o arquivo onde seu resultado é
+     * gravado.
+     *
+     * @param etapa       A etapa a ser adicionada.
+     * @param arquivoSaida O arquivo de saída da etapa, ou {@code null} para não
+     *                    gravar.
+     * @return Este pipeline, para encadear chamadas.
+     */
+    public PipelineTransformacao adicionarEtapa(Etapa etapa, String arquivoSaida) {
+        etapas.add(etapa);
+        saidas.add(arquivoSaida);
+        return this;
+    }
+
+    /**
+     * Faz {@link #executar()} carregar uma das saídas no {@link MatchStore} ao
+     * terminar, o que grava o seu snapshot ({@code <saida>.snap}) para que a
+     * primeira ordenação não precise interpretar o CSV.
+     *
+     * @param arquivoSaida O arquivo de saída (no formato do T2).
+     * @return Este pipeline, para encadear chamadas.
+     */
+    public PipelineTransformacao comSnapshot(String arquivoSaida) {
+        saidaComSnapshot = arquivoSaida;
+        return this;
+    }
+
+    /**
+     * Lê o arquivo de entrada uma vez, passando cada linha por todas as etapas
+     * e gravando os arquivos de saída pedidos. As linhas são lidas e
+     * transformadas em paralelo pelo {@link LeitorCsvParalelo} (por isso as
+     * etapas precisam ser thread-safe depois do cabeçalho), e gravadas na
+     * ordem do arquivo.
+     * <p>
+     * Se o carimbo confere com a entrada, as etapas e as saídas atuais, nada é
+     * refeito; para forçar a transformação, apague o carimbo ou uma das
+     * saídas.
+     */
+    public void executar() {
+        File carimbo = arquivoCarimbo();
+        if (atualizado(carimbo)) {
+            System.out.println("Transformações já em dia com " + inputFile + ".");
+            return;
+        }
+        if (carimbo != null) {
+            carimbo.delete();
+        }
+
+        File[] temporarios = new File[etapas.size()];
+        for (int i = 0; i < temporarios.length; i++) {
+            if (saidas.get(i) != null) {
+                temporarios[i] = new File(saidas.get(i) + EXTENSAO_TEMPORARIA);
+            }
+        }
+        boolean concluido = false;
+        try {
+            gravarTemporarios(temporarios);
+            for (int i = 0; i < temporarios.length; i++) {
+                if (temporarios[i] != null) {
+                    Files.move(temporarios[i].toPath(), new File(saidas.get(i)).toPath(),
+                            StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            if (carimbo != null) {
+                gravarCarimbo(carimbo);
+            }
+            concluido = true;
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            for (File temporario : temporarios) {
+                if (temporario != null) {
+                    temporario.delete();
+                }
+            }
+        }
+
+        if (concluido && saidaComSnapshot != null) {
+            MatchStore.carregar(saidaComSnapshot);
+        }
+    }
+
+    /**
+     * Grava o resultado de cada etapa com arquivo de saída no arquivo
+     * temporário correspondente.
+     */
+    private void gravarTemporarios(File[] temporarios) throws IOException {
+        BufferedWriter[] writers = new BufferedWriter[etapas.size()];
+        try {
+            LeitorCsvParalelo leitor = LeitorCsvParalelo.abrir(inputFile);
+            for (int i = 0; i < writers.length; i++) {
+                if (temporarios[i] != null) {
+                    writers[i] = new BufferedWriter(new FileWriter(temporarios[i]));
+                }
+            }
+
+            String line = leitor.cabecalho();
+            if (line == null) {
+                return;
+            }
+
+            String[] headers = line.split(",");
+            for (int i = 0; i < etapas.size(); i++) {
+                headers = etapas.get(i).cabecalho(headers);
+                escreverLinha(writers[i], headers);
+            }
+
+            leitor.processar(values -> transformar(values, writers), linhas -> {
+                for (int i = 0; i < linhas.length; i++) {
+                    if (linhas[i] != null) {
+                        writers[i].write(linhas[i]);
+                        writers[i].write("\n");
+                    }
+                }
+            });
+        } finally {
+            fechar(writers);
+        }
+    }
+
+    /**
+     * @return O carimbo do pipeline, ou {@code null} se nenhuma etapa grava
+     *         um arquivo de saída.
+     */
+    private File arquivoCarimbo() {
+        for (String saida : saidas) {
+            if (saida != null) {
+                return new File(new File(saida).getAbsoluteFile().getParentFile(),
+                        new File(inputFile).getName() + EXTENSAO_CARIMBO);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Descreve a entrada, as etapas e as saídas como estão agora no disco.
+     * É o que o carimbo guarda ao fim de uma execução completa.
+     */
+    private String descricaoAtual() {
+        File entrada = new File(inputFile);
+        StringBuilder descricao = new StringBuilder();
+        descricao.append("entrada ").append(entrada.length()).append(' ').append(entrada.lastModified())
+                .append('\n');
+        for (int i = 0; i < etapas.size(); i++) {
+            descricao.append("etapa ").append(etapas.get(i).descricao()).append('\n');
+            String saida = saidas.get(i);
+            if (saida != null) {
+                File arquivo = new File(saida);
+                descricao.append("saida ").append(saida).append(' ')
+                        .append(arquivo.isFile() ? arquivo.length() : -1).append('\n');
+            }
+        }
+        return descricao.toString();
+    }
+
+    /**
+     * @return Verdadeiro se o carimbo existe e confere com a entrada, as
+     *         etapas e as saídas atuais.
+     */
+    private boolean atualizado(File carimbo) {
+        if (carimbo == null || !carimbo.isFile() || !new File(inputFile).isFile()) {
+            return false;
+        }
+        for (String saida : saidas) {
+            if (saida != null && !new File(saida).isFile()) {
+                return false;
+            }
+        }
+        try {
+            String gravado = new String(Files.readAllBytes(carimbo.toPath()), StandardCharsets.UTF_8);
+            return gravado.equals(descricaoAtual());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Grava o carimbo com outro nome e só então o renomeia, como as saídas.
+     */
+    private void gravarCarimbo(File carimbo) throws IOException {
+        File temporario = new File(carimbo.getPath() + EXTENSAO_TEMPORARIA);
+        Files.write(temporario.toPath(), descricaoAtual().getBytes(StandardCharsets.UTF_8));
+        Files.move(temporario.toPath(), carimbo.toPath(), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Passa uma linha pelas etapas.
+     *
+     * @return A linha já formatada que cada etapa grava, ou {@code null} nas
+     *         etapas sem arquivo de saída ou que não receberam a linha.
+     */
+    private String[] transformar(String[] values, BufferedWriter[] writers) {
+        String[] linhas = new String[etapas.size()];
+        for (int i = 0; i < etapas.size() && values != null; i++) {
+            values = etapas.get(i).aplicar(values);
+            if (values != null && writers[i] != null) {
+                linhas[i] = String.join(",", values);
+            }
+        }
+        return linhas;
+    }
+
+    private void escreverLinha(BufferedWriter writer, String[] values) throws IOException {
+        if (writer != null) {
+            writer.write(String.join(",", values));
+            writer.write("\n");
+        }
+    }
+
+    /**
+     * Fecha todos os writers, mesmo que algum falhe; a primeira falha é
+     * relançada, pois uma saída que não foi fechada pode estar incompleta.
+     */
+    private void fechar(BufferedWriter[] writers) throws IOException {
+        IOException falha = null;
+        for (BufferedWriter writer : writers) {
+            if (writer == null) {
+                continue;
+            }
+            try {
+                writer.close();
+            } catch (IOException e) {
+                if (falha == null) {
+                    falha = e;
+                }
+            }
+        }
+        if (falha != null) {
+            throw falha;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package Transformacoes;
+
+/**
+ * Etapa que mantém apenas as colunas escolhidas, na ordem informada
+ * (transformação T1).
+ */
+public class ProjecaoColunas implements Etapa {
+
+    private final String[] columnsToKeep;
+    private int[] indicesToKeep;
+
+    /**
+     * Cria a projeção a partir dos nomes das colunas a serem mantidas.
+     *
+     * @param columnsToKeep Os nomes das colunas que devem permanecer.
+     */
+    public ProjecaoColunas(String[] columnsToKeep) {
+        this.columnsToKeep = columnsToKeep;
+    }
+
+    @Override
+    public String[] cabecalho(String[] headers) {
+        indicesToKeep = new int[columnsToKeep.length];
+        for (int i = 0; i < headers.length; i++) {
+            for (int j = 0; j < columnsToKeep.length; j++) {
+                if (headers[i].equals(columnsToKeep[j])) {
+                    indicesToKeep[j] = i;
+                }
+            }
+        }
+        return aplicar(headers);
+    }
+
+    @Override
+    public String[] aplicar(String[] values) {
+        String[] projetados = new String[indicesToKeep.length];
+        for (int i = 0; i < indicesToKeep.length; i++) {
+            projetados[i] = indicesToKeep[i] < values.length ? values[indicesToKeep[i]] : "";
+        }
+        return projetados;
+    }
+
+    @Override
+    public String descricao() {
+        return "ProjecaoColunas " + String.join(",", columnsToKeep);
+    }
+}
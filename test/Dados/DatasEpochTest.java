@@ -0,0 +1,37 @@
+package Dados;
+
+/**
+ * Verificações da {@link DatasEpoch}. O projeto não usa um framework de
+ * testes; para rodar, compile junto com {@code src} e execute a classe:
+ * <p>
+ * {@code javac -d bin src/Dados/*.java test/Dados/DatasEpochTest.java}<br>
+ * {@code java -ea -cp bin Dados.DatasEpochTest}
+ */
+public class DatasEpochTest {
+
+    public static void main(String[] args) {
+        dataInvalidaDiferenteDoEpoch();
+        dataInvalidaAntesDasValidas();
+        System.out.println("DatasEpochTest: ok");
+    }
+
+    private static void dataInvalidaDiferenteDoEpoch() {
+        int epoch = DatasEpoch.decodificar("01/01/1970");
+        verificar(epoch == 0, "01/01/1970 deveria ser o dia 0, mas foi " + epoch);
+        verificar(DatasEpoch.decodificar("") != epoch, "data vazia tem a mesma chave de 01/01/1970");
+        verificar(DatasEpoch.decodificar("31/02/2020") != epoch, "31/02/2020 tem a mesma chave de 01/01/1970");
+        verificar(DatasEpoch.decodificar("abc") != epoch, "\"abc\" tem a mesma chave de 01/01/1970");
+    }
+
+    private static void dataInvalidaAntesDasValidas() {
+        verificar(DatasEpoch.decodificar("") == DatasEpoch.DATA_INVALIDA, "data vazia não é DATA_INVALIDA");
+        verificar(DatasEpoch.DATA_INVALIDA < DatasEpoch.decodificar("01/01/0000"),
+                "DATA_INVALIDA não fica antes da menor data válida");
+    }
+
+    private static void verificar(boolean condicao, String mensagem) {
+        if (!condicao) {
+            throw new AssertionError(mensagem);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package Ordenacao;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Random;
+
+import Dados.MatchStore;
+import Ordenacao.InsertionSort.InsertionSort;
+import Ordenacao.InsertionSortBinario.InsertionSortBinario;
+
+/**
+ * Verificações do {@link InsertionSortBinario} e do {@link AcrescimoOrdenado}.
+ * O projeto não usa um framework de testes; para rodar, compile junto com
+ * {@code src} e execute a classe:
+ * <p>
+ * {@code javac -d bin $(find src test -name "*.java")}<br>
+ * {@code java -cp bin Ordenacao.InsertionSortBinarioTest}
+ */
+public class InsertionSortBinarioTest {
+
+    private static final Random RANDOM = new Random(42);
+
+    public static void main(String[] args) throws IOException {
+        ordenarIgualAoClassico();
+        inserirLoteIgualAOrdenarTudo();
+        inserirLoteSemEspaco();
+        acrescentarAoHistorico();
+        System.out.println("InsertionSortBinarioTest: ok");
+    }
+
+    /** As duas variantes são estáveis, então devem dar a mesma visão. */
+    private static void ordenarIgualAoClassico() {
+        for (int n = 0; n < 300; n += 7) {
+            int[] chaves = aleatorias(n, 1 + n / 4);
+            int[] linhas = identidade(n);
+            int[] chavesClassico = chaves.clone();
+            int[] linhasClassico = linhas.clone();
+
+            new InsertionSortBinario().ordenar(chaves, linhas);
+            new InsertionSort().ordenar(chavesClassico, linhasClassico);
+            verificar(Arrays.equals(chaves, chavesClassico) && Arrays.equals(linhas, linhasClassico),
+                    "InsertionSortBinario difere do InsertionSort com n = " + n);
+        }
+    }
+
+    /**
+     * Encaixar um lote em um histórico ordenado deve dar o mesmo resultado
+     * que ordenar (de forma estável) o histórico seguido do lote.
+     */
+    private static void inserirLoteIgualAOrdenarTudo() {
+        int[][] casos = {{0, 5}, {5, 0}, {1, 1}, {1000, 3}, {1000, 300}, {50, 500}};
+        for (int[] caso : casos) {
+            int tamanho = caso[0];
+            int lote = caso[1];
+            int[] todasChaves = aleatorias(tamanho + lote, 40);
+            int[] todasLinhas = identidade(tamanho + lote);
+            InsertionSort.ordenar(todasChaves, todasLinhas, 0, tamanho);
+
+            int[] esperadoChaves = todasChaves.clone();
+            int[] esperadoLinhas = todasLinhas.clone();
+            InsertionSort.ordenar(esperadoChaves, esperadoLinhas, 0, tamanho + lote);
+
+            int[] novasChaves = Arrays.copyOfRange(todasChaves, tamanho, tamanho + lote);
+            int[] novasLinhas = Arrays.copyOfRange(todasLinhas, tamanho, tamanho + lote);
+            int total = InsertionSortBinario.inserirLote(todasChaves, todasLinhas, tamanho, novasChaves,
+                    novasLinhas);
+            verificar(total == tamanho + lote, "inserirLote devolveu " + total);
+            verificar(Arrays.equals(todasChaves, esperadoChaves) && Arrays.equals(todasLinhas, esperadoLinhas),
+                    "inserirLote difere da ordenação completa em " + Arrays.toString(caso));
+        }
+    }
+
+    private static void inserirLoteSemEspaco() {
+        try {
+            InsertionSortBinario.inserirLote(new int[3], new int[3], 2, new int[2], new int[2]);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        throw new AssertionError("inserirLote aceitou um lote maior que o espaço livre");
+    }
+
+    /**
+     * Um arquivo com o histórico ordenado por attendance seguido de partidas
+     * novas deve sair igual ao arquivo inteiro ordenado pelo InsertionSort.
+     */
+    private static void acrescentarAoHistorico() throws IOException {
+        File pasta = new File(System.getProperty("java.io.tmpdir"), "acrescimo_" + System.nanoTime());
+        pasta.mkdirs();
+        File entrada = new File(pasta, "matches_T2.csv");
+        int historico = 200;
+        int novas = 25;
+        int[] publico = aleatorias(historico + novas, 50);
+        Arrays.sort(publico, 0, historico);
+        try (PrintWriter out = new PrintWriter(entrada, "UTF-8")) {
+            out.println("id,home,away,date,year,time (utc),attendance,venue,league,home_score,away_score,"
+                    + "home_goal_scorers,away_goal_scorers,full_date");
+            for (int i = 0; i < publico.length; i++) {
+                out.println(i + ",Casa,Fora,\"Saturday, August 13\",2016,14:00,\"" + publico[i] * 1000
+                        + "\",\"Estádio " + (i % 7) + ", Cidade\",Liga,0,1,,,13/08/2016");
+            }
+        }
+
+        MatchStore store = MatchStore.carregar(entrada.getPath());
+        int[] acrescido = AcrescimoOrdenado.acrescentar(store, Chave.ATTENDANCE, historico);
+        int[] esperado = store.visaoOriginal();
+        new InsertionSort().ordenar(Chave.ATTENDANCE.extrair(store, esperado), esperado);
+        verificar(Arrays.equals(acrescido, esperado), "AcrescimoOrdenado difere da ordenação completa");
+
+        try {
+            AcrescimoOrdenado.acrescentar(store, Chave.ATTENDANCE, historico + novas);
+            throw new AssertionError("AcrescimoOrdenado aceitou um histórico fora de ordem");
+        } catch (IllegalArgumentException e) {
+            // esperado: as partidas novas não estão em ordem
+        }
+
+        for (File arquivo : pasta.listFiles()) {
+            arquivo.delete();
+        }
+        pasta.delete();
+    }
+
+    private static int[] aleatorias(int n, int distintas) {
+        int[] chaves = new int[n];
+        for (int i = 0; i < n; i++) {
+            chaves[i] = RANDOM.nextInt(distintas);
+        }
+        return chaves;
+    }
+
+    private static int[] identidade(int n) {
+        int[] linhas = new int[n];
+        for (int i = 0; i < n; i++) {
+            linhas[i] = i;
+        }
+        return linhas;
+    }
+
+    private static void verificar(boolean condicao, String mensagem) {
+        if (!condicao) {
+            throw new AssertionError(mensagem);
+        }
+    }
+}
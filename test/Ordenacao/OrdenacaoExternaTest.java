@@ -0,0 +1,98 @@
+package Ordenacao;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+import Dados.MatchStore;
+import Ordenacao.MergeSort.MergeSort;
+
+/**
+ * Verificações da {@link OrdenacaoExterna}: com um orçamento de memória
+ * pequeno, que divide a entrada em várias runs, a saída deve ter os mesmos
+ * bytes da ordenação em memória do mesmo arquivo. O projeto não usa um
+ * framework de testes; para rodar, compile junto com {@code src} e execute a
+ * classe:
+ * <p>
+ * {@code javac -d bin $(find src test -name "*.java")}<br>
+ * {@code java -cp bin Ordenacao.OrdenacaoExternaTest}
+ */
+public class OrdenacaoExternaTest {
+
+    private static final Random RANDOM = new Random(42);
+    /** Cabe poucas dezenas de linhas, então as 2000 linhas geram muitas runs. */
+    private static final long MEMORIA_PEQUENA = 4096;
+
+    public static void main(String[] args) throws IOException {
+        File pasta = new File(System.getProperty("java.io.tmpdir"), "externa_" + System.nanoTime());
+        pasta.mkdirs();
+        try {
+            File entrada = new File(pasta, "matches_T2.csv");
+            gerarEntrada(entrada, 2000);
+            for (Chave chave : Chave.values()) {
+                igualAOrdenacaoEmMemoria(entrada, chave, pasta);
+            }
+        } finally {
+            for (File arquivo : pasta.listFiles()) {
+                arquivo.delete();
+            }
+            pasta.delete();
+        }
+        System.out.println("OrdenacaoExternaTest: ok");
+    }
+
+    private static void igualAOrdenacaoEmMemoria(File entrada, Chave chave, File pasta) throws IOException {
+        File externa = new File(pasta, "externa_" + chave.sufixoArquivo() + ".csv");
+        File emMemoria = new File(pasta, "memoria_" + chave.sufixoArquivo() + ".csv");
+
+        new OrdenacaoExterna(new MergeSort(), chave, MEMORIA_PEQUENA, pasta).ordenar(entrada.getPath(),
+                externa.getPath());
+
+        MatchStore store = MatchStore.carregar(entrada.getPath());
+        int[] linhas = store.visaoOriginal();
+        new MergeSort().ordenar(chave.extrair(store, linhas), linhas);
+        store.escrever(linhas, emMemoria.getPath());
+
+        verificar(Arrays.equals(Files.readAllBytes(externa.toPath()), Files.readAllBytes(emMemoria.toPath())),
+                "A ordenação externa por " + chave.coluna() + " difere da ordenação em memória");
+        String[] restantes = pasta.list((dir, nome) -> nome.startsWith("run_"));
+        verificar(restantes.length == 0, "Sobraram " + restantes.length + " run(s) na pasta temporária");
+    }
+
+    /**
+     * Gera um T2 com muitas chaves repetidas (para testar a estabilidade entre
+     * runs), campos entre aspas com vírgulas e quebras de linha, estádios com
+     * acentos, datas inválidas, uma linha em branco e uma linha sem as últimas
+     * colunas.
+     */
+    private static void gerarEntrada(File entrada, int n) throws IOException {
+        String[] estadios = {"Estádio Olímpico, Berlim", "Anfield", "Älmhult Arena", "estádio da Luz", "Camp Nou",
+                ""};
+        try (PrintWriter out = new PrintWriter(entrada, "UTF-8")) {
+            out.println("id,home,away,date,year,time (utc),attendance,venue,league,home_score,away_score,"
+                    + "home_goal_scorers,away_goal_scorers,full_date");
+            for (int i = 0; i < n; i++) {
+                if (i == n / 3) {
+                    out.println();
+                } else if (i == n / 2) {
+                    out.println(i + ",Casa,Fora");
+                }
+                String data = RANDOM.nextInt(20) == 0 ? "?" : String.format("%02d/%02d/20%02d",
+                        1 + RANDOM.nextInt(28), 1 + RANDOM.nextInt(12), 10 + RANDOM.nextInt(3));
+                String marcadores = i % 5 == 0 ? "\"['Fulano 10'',\nBeltrano 80'']\"" : "";
+                out.println(i + ",Casa " + i + ",Fora,\"Saturday, August 13\",2016,14:00,\""
+                        + RANDOM.nextInt(50) * 1000 + "\",\"" + estadios[RANDOM.nextInt(estadios.length)]
+                        + "\",Liga,0,1," + marcadores + ",," + data);
+            }
+        }
+    }
+
+    private static void verificar(boolean condicao, String mensagem) {
+        if (!condicao) {
+            throw new AssertionError(mensagem);
+        }
+    }
+}